@@ -1,11 +1,21 @@
 plugins {
     id("conventions.base")
     id("conventions.publishing")
+    `java-test-fixtures`
 }
 
 dependencies {
     api(libs.cloud.core)
+    api(projects.cloudMinecraftInstrumentation)
     /* Needs to be provided by the platform */
     compileOnly(libs.brigadier)
     testImplementation(libs.brigadier)
+    /* Shared with the platform tests, see src/testFixtures */
+    testFixturesApi(libs.cloud.core)
+    testFixturesImplementation(libs.jupiterEngine)
 }
+
+/* The test fixtures are only shared between the modules of this build */
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
@@ -28,8 +28,11 @@ import com.mojang.brigadier.context.CommandContext;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.minecraft.instrumentation.CommandEvents;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 
 /**
  * Brigadier {@link Command} implementation that delegates to cloud.
@@ -77,7 +80,9 @@ public final class CloudBrigadierCommand<C, S> implements Command<S> {
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public int run(final @NonNull CommandContext<S> ctx) {
+        final @Nullable Object event = CommandEvents.beginExecute();
         final S source = ctx.getSource();
         final String input = ctx.getInput().substring(ctx.getLastChild().getNodes().get(0).getRange().getStart());
         final C sender = this.brigadierManager.senderMapper().map(source);
@@ -86,7 +91,11 @@ public final class CloudBrigadierCommand<C, S> implements Command<S> {
             sender,
             this.inputMapper.apply(input),
             cloudContext -> cloudContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, source)
-        );
+        ).whenComplete((result, failure) -> {
+            CommandEvents.commitExecute(event, CommandEvents.SOURCE_BRIGADIER, input, sender);
+            CommandMetrics.installed().recordFailure(failure);
+        });
+        CommandMetrics.installed().recordExecution(ctx.getLastChild().getNodes().get(0).getNode().getName());
         return com.mojang.brigadier.Command.SINGLE_SUCCESS;
     }
 }
@@ -112,10 +112,12 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
         );
         loader.iterator().forEachRemaining(contributor -> contributor.contribute(commandManager, this));
         commandManager.registerCommandPreProcessor(ctx -> {
-            if (!ctx.commandContext().contains(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)) {
+            if (!WrappedBrigadierParser.hasNativeSender(ctx.commandContext())) {
+                /* Only created once a parser asks for it */
+                final C sender = ctx.commandContext().sender();
                 ctx.commandContext().store(
-                        WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER,
-                        this.brigadierSourceMapper.reverse(ctx.commandContext().sender())
+                        WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER,
+                        (Supplier<S>) () -> this.brigadierSourceMapper.reverse(sender)
                 );
             }
         });
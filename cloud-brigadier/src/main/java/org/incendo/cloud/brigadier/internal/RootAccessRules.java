@@ -0,0 +1,148 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.internal;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
+import org.incendo.cloud.permission.Permission;
+
+/**
+ * Compiled access rules of a root command, used by the platform commands when the platform asks whether a sender may
+ * see or use the command outside of command execution.
+ *
+ * <p>The root node is resolved once, and the permissions of the {@link CommandNode#META_KEY_ACCESS access map} that
+ * apply to a sender class are resolved once per class, so a check is a class lookup followed by the permission
+ * tests. The rules are compiled again after {@link #invalidate()}, or when the tree replaced the access map.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class RootAccessRules<C> {
+
+    private static final Permission[] NO_PERMISSIONS = new Permission[0];
+
+    private final CommandManager<C> commandManager;
+    private final String rootName;
+
+    private volatile @Nullable Compiled<C> compiled;
+
+    /**
+     * Creates the access rules of a root command.
+     *
+     * @param commandManager command manager
+     * @param rootName       name of the root command
+     */
+    public RootAccessRules(final @NonNull CommandManager<C> commandManager, final @NonNull String rootName) {
+        this.commandManager = commandManager;
+        this.rootName = rootName;
+    }
+
+    /**
+     * Returns whether the sender has access to any command below the root.
+     *
+     * @param sender the sender
+     * @return {@code true} if the sender has access, {@code false} if not, or if the root does not exist
+     */
+    public boolean test(final @NonNull C sender) {
+        final @Nullable Compiled<C> compiled = this.compiled();
+        if (compiled == null) {
+            return false;
+        }
+
+        for (final Permission permission : compiled.permissions.get(sender.getClass())) {
+            if (this.commandManager.testPermission(sender, permission).allowed()) {
+                CommandMetrics.installed().recordPermissionCheck(true);
+                return true;
+            }
+        }
+        CommandMetrics.installed().recordPermissionCheck(false);
+        return false;
+    }
+
+    /**
+     * Discards the compiled rules, called when the tree below the root changes.
+     */
+    public void invalidate() {
+        this.compiled = null;
+    }
+
+    private @Nullable Compiled<C> compiled() {
+        final @Nullable Compiled<C> compiled = this.compiled;
+        if (compiled != null && compiled.isCurrent()) {
+            return compiled;
+        }
+
+        final @Nullable CommandNode<C> node = this.commandManager.commandTree().getNamedNode(this.rootName);
+        if (node == null) {
+            return null;
+        }
+        final Compiled<C> recompiled = new Compiled<>(node);
+        this.compiled = recompiled;
+        return recompiled;
+    }
+
+    private static @NonNull Map<Type, Permission> accessMap(final @NonNull CommandNode<?> node) {
+        return node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
+    }
+
+    private static final class Compiled<C> {
+
+        private final CommandNode<C> node;
+        private final Map<Type, Permission> accessMap;
+        private final ClassValue<Permission[]> permissions;
+
+        private Compiled(final @NonNull CommandNode<C> node) {
+            this.node = node;
+            this.accessMap = accessMap(node);
+            this.permissions = new ClassValue<Permission[]>() {
+                @Override
+                protected Permission[] computeValue(final Class<?> senderType) {
+                    final List<Permission> permissions = new ArrayList<>();
+                    for (final Map.Entry<Type, Permission> entry : Compiled.this.accessMap.entrySet()) {
+                        if (GenericTypeReflector.isSuperType(entry.getKey(), senderType)) {
+                            permissions.add(entry.getValue());
+                        }
+                    }
+                    return permissions.isEmpty() ? NO_PERMISSIONS : permissions.toArray(NO_PERMISSIONS);
+                }
+            };
+        }
+
+        private boolean isCurrent() {
+            return accessMap(this.node) == this.accessMap;
+        }
+    }
+}
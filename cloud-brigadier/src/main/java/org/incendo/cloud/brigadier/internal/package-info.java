@@ -0,0 +1,4 @@
+/**
+ * Internals shared by the platform implementations.
+ */
+package org.incendo.cloud.brigadier.internal;
@@ -55,6 +55,7 @@ import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.MappedArgumentParser;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
@@ -99,6 +100,8 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             final @NonNull Command<S> executor,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker
     ) {
+        final CommandMetrics metrics = CommandMetrics.installed();
+        final long start = metrics.time();
         final LiteralArgumentBuilder<S> literalArgumentBuilder = LiteralArgumentBuilder
                 .<S>literal(label)
                 .requires(this.requirement(cloudCommand, permissionChecker));
@@ -109,6 +112,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
         for (final CommandNode<C> child : cloudCommand.children()) {
             constructedRoot.addChild(this.constructCommandNode(child, permissionChecker, executor).build());
         }
+        metrics.recordTreeBuild(metrics.time() - start);
         return constructedRoot;
     }
 
@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import com.mojang.brigadier.StringReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandInput;
+
+/**
+ * A {@link StringReader} viewing the buffer of a {@link CommandInput} without copying it.
+ *
+ * <p>Unlike {@link CloudStringReader}, the Brigadier cursor is the only cursor that is updated while reading. The
+ * position is copied back into the {@link CommandInput} once when the reader is {@link #release(CommandInput) released}.</p>
+ *
+ * <p>Brigadier's reader cannot be re-targeted to a different string, so readers are cached per thread and reused
+ * whenever the same input buffer is parsed again, which is the case for every wrapped argument of a single command.</p>
+ */
+final class CommandInputStringReader extends StringReader {
+
+    private static final ThreadLocal<CommandInputStringReader> CACHED = new ThreadLocal<>();
+
+    private boolean inUse;
+
+    /**
+     * Returns a reader positioned at the cursor of the given {@code commandInput}. The reader must be
+     * {@link #release(CommandInput) released} once parsing is complete.
+     *
+     * @param commandInput the command input
+     * @return the reader
+     */
+    static @NonNull CommandInputStringReader acquire(final @NonNull CommandInput commandInput) {
+        final String input = commandInput.input();
+        final @Nullable CommandInputStringReader cached = CACHED.get();
+        final CommandInputStringReader reader;
+        if (cached != null && !cached.inUse && cached.getString() == input) {
+            reader = cached;
+        } else {
+            reader = new CommandInputStringReader(input);
+            if (cached == null || !cached.inUse) {
+                CACHED.set(reader);
+            }
+        }
+        reader.inUse = true;
+        reader.setCursor(commandInput.cursor());
+        return reader;
+    }
+
+    private CommandInputStringReader(final @NonNull String input) {
+        super(input);
+    }
+
+    /**
+     * Moves the cursor of the {@code commandInput} to the cursor of this reader and makes the reader available for reuse.
+     *
+     * @param commandInput the command input the reader was acquired for
+     */
+    void release(final @NonNull CommandInput commandInput) {
+        commandInput.cursor(this.getCursor());
+        this.inUse = false;
+    }
+}
@@ -39,6 +39,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.minecraft.instrumentation.CommandEvents;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.suggestion.Suggestion;
@@ -55,11 +58,67 @@ import static java.util.Objects.requireNonNull;
  */
 public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, SuggestionProvider<C> {
 
+    /**
+     * Key of the native sender in the command context.
+     *
+     * <p>Outside of Brigadier execution, the platforms only store a {@link #COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER
+     * supplier} before parsing, and the native sender is stored under this key once {@link #nativeSender(CommandContext)}
+     * created it. Reading this key directly may therefore find nothing.</p>
+     *
+     * @deprecated read the native sender through {@link #nativeSender(CommandContext)}, which also resolves a stored
+     *     {@link #COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER supplier}, and check for it with
+     *     {@link #hasNativeSender(CommandContext)}
+     */
+    @Deprecated
     public static final String COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER = "_cloud_brigadier_native_sender";
 
+    /**
+     * Key of a {@link Supplier} of the native sender, stored instead of the native sender when creating it is expensive and
+     * the command may not need it. {@link #nativeSender(CommandContext)} resolves it on first use.
+     *
+     * @since 2.0.0
+     */
+    @API(status = API.Status.STABLE, since = "2.0.0")
+    public static final String COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER = "_cloud_brigadier_native_sender_supplier";
+
     private final Supplier<ArgumentType<T>> nativeType;
     private final @Nullable ParseFunction<T> parse;
 
+    /**
+     * Returns the native sender stored in the context. If only a {@link #COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER
+     * supplier} is stored, the native sender is created and stored under {@link #COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER}.
+     *
+     * @param commandContext the command context
+     * @param <S>            native sender type
+     * @return the native sender
+     * @throws NullPointerException if the context has no native sender
+     * @since 2.0.0
+     */
+    @API(status = API.Status.STABLE, since = "2.0.0")
+    public static <S> @NonNull S nativeSender(final @NonNull CommandContext<?> commandContext) {
+        if (commandContext.contains(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
+                || !commandContext.contains(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER)) {
+            return commandContext.get(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+        }
+        final Supplier<S> supplier = commandContext.get(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER);
+        final CloudKey<S> key = CloudKey.of(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+        /* Keeps a native sender that another parser stored in the meantime */
+        return commandContext.computeIfAbsent(key, ignored -> supplier.get());
+    }
+
+    /**
+     * Returns whether the context has a native sender, or a supplier of it.
+     *
+     * @param commandContext the command context
+     * @return whether {@link #nativeSender(CommandContext)} will succeed
+     * @since 2.0.0
+     */
+    @API(status = API.Status.STABLE, since = "2.0.0")
+    public static boolean hasNativeSender(final @NonNull CommandContext<?> commandContext) {
+        return commandContext.contains(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
+                || commandContext.contains(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER);
+    }
+
     /**
      * Create an {@link ArgumentParser argument parser} from a Brigadier {@link ArgumentType}.
      *
@@ -112,17 +171,29 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        // Convert to a brig reader
-        final StringReader reader = CloudStringReader.of(commandInput);
+        final @Nullable Object event = CommandEvents.beginParse();
+        final ArgumentType<T> type = this.nativeType.get();
+
+        // Convert to a brig reader sharing the input buffer
+        final CommandInputStringReader reader = CommandInputStringReader.acquire(commandInput);
 
         // Then try to parse
+        boolean success = false;
         try {
             final T result = this.parse != null
-                    ? this.parse.apply(this.nativeType.get(), reader)
-                    : this.nativeType.get().parse(reader);
+                    ? this.parse.apply(type, reader)
+                    : type.parse(reader);
+            success = true;
             return ArgumentParseResult.success(result);
         } catch (final CommandSyntaxException ex) {
+            // Suggestions re-parse incomplete input, which failing is expected and not worth counting
+            if (!commandContext.isSuggestions()) {
+                CommandMetrics.installed().recordParseFailure(type.getClass());
+            }
             return ArgumentParseResult.failure(ex);
+        } finally {
+            reader.release(commandInput);
+            CommandEvents.commitParse(event, commandInput.input(), type.getClass(), commandContext.sender(), success);
         }
     }
 
@@ -137,7 +208,7 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
          * is use it to query data on the native sender. Hopefully this hack holds up.
          */
         final com.mojang.brigadier.context.CommandContext<Object> reverseMappedContext = new com.mojang.brigadier.context.CommandContext<>(
-                commandContext.getOrDefault(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, commandContext.sender()),
+                hasNativeSender(commandContext) ? nativeSender(commandContext) : commandContext.sender(),
                 input.input(),
                 Collections.emptyMap(),
                 null,
@@ -30,8 +30,12 @@ import java.util.Map;
 import java.util.function.Predicate;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.minecraft.instrumentation.CommandEvents;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.permission.Permission;
 
 @API(status = API.Status.INTERNAL, since = "2.0.0")
@@ -61,7 +65,15 @@ public final class BrigadierPermissionPredicate<C, S> implements Predicate<S> {
 
     @Override
     public boolean test(final @NonNull S source) {
+        final @Nullable Object event = CommandEvents.beginPermissionCheck();
         final C cloudSender = this.senderMapper.map(source);
+        final boolean allowed = this.hasAccess(cloudSender);
+        CommandEvents.commitPermissionCheck(event, this.nodeName(), cloudSender, allowed);
+        CommandMetrics.installed().recordPermissionCheck(allowed);
+        return allowed;
+    }
+
+    private boolean hasAccess(final @NonNull C cloudSender) {
         final Map<Type, Permission> accessMap =
             this.node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
         for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
@@ -73,4 +85,9 @@ public final class BrigadierPermissionPredicate<C, S> implements Predicate<S> {
         }
         return false;
     }
+
+    private @NonNull String nodeName() {
+        final @Nullable CommandComponent<?> component = this.node.component();
+        return component == null ? "" : component.name();
+    }
 }
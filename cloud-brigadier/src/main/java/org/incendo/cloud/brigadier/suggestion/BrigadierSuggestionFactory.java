@@ -44,6 +44,8 @@ import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.minecraft.instrumentation.CommandEvents;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.suggestion.SuggestionFactory;
 import org.incendo.cloud.type.tuple.Pair;
 
@@ -97,6 +99,9 @@ public final class BrigadierSuggestionFactory<C, S> {
             final @NonNull CommandComponent<C> component,
             final @NonNull SuggestionsBuilder builder
     ) {
+        final @Nullable Object event = CommandEvents.beginSuggest();
+        final CommandMetrics metrics = CommandMetrics.installed();
+        final long start = metrics.time();
         final CommandContext<C> commandContext;
         String command = builder.getInput();
         if (senderContext == null) {
@@ -120,6 +125,7 @@ public final class BrigadierSuggestionFactory<C, S> {
             command = command.substring(leading.split(":")[0].length() + 1);
         }
 
+        final String input = command;
         return this.suggestionFactory.suggest(commandContext.sender(), command).thenApply(suggestionsResult -> {
             /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
             final List<TooltipSuggestion> suggestions = new ArrayList<>(suggestionsResult.list());
@@ -146,8 +152,10 @@ public final class BrigadierSuggestionFactory<C, S> {
                 }
             }
 
+            CommandEvents.commitSuggest(event, CommandEvents.SOURCE_BRIGADIER, input, commandContext.sender(), suggestions.size());
+            metrics.recordSuggestions(metrics.time() - start);
             return suggestionsBuilder.build();
-        });
+        }).whenComplete((result, failure) -> metrics.recordFailure(failure));
     }
 
     /**
@@ -0,0 +1,161 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory;
+import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.util.AllocationMeter;
+import org.incendo.cloud.brigadier.util.TestCommandManager;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+
+/**
+ * Measures the allocation rate of the Brigadier hot paths, in bytes per operation after warmup, and publishes it as a
+ * test report entry.
+ *
+ * <p>Nothing is asserted yet. Budgets are only to be added from numbers measured on CI, with a stated margin and the
+ * JVM and flags used.</p>
+ */
+@SuppressWarnings("unchecked")
+class AllocationRegressionTest {
+
+    private CommandDispatcher<Object> dispatcher;
+    private TestCommandManager<Object> commandManager;
+    private LiteralBrigadierNodeFactory<Object, Object> literalBrigadierNodeFactory;
+    private Command<Object> command;
+    private com.mojang.brigadier.Command<Object> brigadierCommand;
+
+    @BeforeEach
+    void setup() {
+        this.dispatcher = new CommandDispatcher<>();
+        this.commandManager = new TestCommandManager<>();
+        final CloudBrigadierManager<Object, Object> cloudBrigadierManager = new CloudBrigadierManager<>(
+                this.commandManager,
+                () -> new StandardCommandContextFactory<>(this.commandManager).create(false, new Object()),
+                SenderMapper.identity()
+        );
+        this.literalBrigadierNodeFactory = cloudBrigadierManager.literalBrigadierNodeFactory();
+        this.command = this.commandManager.commandBuilder("command")
+                .literal("literal")
+                .required("integer", integerParser(0, 10))
+                .optional("string", greedyStringParser(),
+                        org.incendo.cloud.suggestion.SuggestionProvider.suggesting(Arrays.asList(
+                                Suggestion.suggestion("some"),
+                                Suggestion.suggestion("suggestions")
+                        ))
+                ).build();
+        this.commandManager.command(this.command);
+        this.brigadierCommand = new CloudBrigadierCommand<>(this.commandManager, cloudBrigadierManager);
+    }
+
+    @Test
+    void testTreeBuild(final @NonNull TestReporter reporter) {
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> this.literalBrigadierNodeFactory.createNode("command", this.command, this.brigadierCommand)
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testSuggestions(final @NonNull TestReporter reporter) {
+        // Arrange
+        final LiteralCommandNode<Object> commandNode =
+                this.literalBrigadierNodeFactory.createNode("command", this.command, this.brigadierCommand);
+        this.dispatcher.getRoot().addChild(commandNode);
+        final String input = "command literal 9 ";
+        final SuggestionProvider<Object> suggestionProvider = ((ArgumentCommandNode<Object, String>) commandNode
+                .getChild("literal").getChild("integer").getChild("string")).getCustomSuggestions();
+        final CommandContext<Object> context = this.dispatcher.parse(input, new Object()).getContext().build(input);
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(() -> {
+            try {
+                suggestionProvider.getSuggestions(context, new SuggestionsBuilder(input, input.length())).join();
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testExecution(final @NonNull TestReporter reporter) {
+        // Arrange
+        this.dispatcher.getRoot().addChild(
+                this.literalBrigadierNodeFactory.createNode("command", this.command, this.brigadierCommand)
+        );
+        final Object source = new Object();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(() -> {
+            try {
+                this.dispatcher.execute("command literal 9 some text", source);
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testWrappedParse(final @NonNull TestReporter reporter) {
+        // Arrange
+        final WrappedBrigadierParser<Object, Integer> parser = new WrappedBrigadierParser<>(IntegerArgumentType.integer());
+        final org.incendo.cloud.context.CommandContext<Object> context =
+                new StandardCommandContextFactory<>(this.commandManager).create(false, new Object());
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> parser.parse(context, CommandInput.of("12345 trailing"))
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+}
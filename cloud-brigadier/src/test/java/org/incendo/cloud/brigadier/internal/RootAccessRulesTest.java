@@ -0,0 +1,103 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class RootAccessRulesTest {
+
+    private TestCommandManager commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+    }
+
+    @Test
+    void testPermission() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("root").literal("a").permission("perm.a"));
+        final RootAccessRules<Object> rules = new RootAccessRules<>(this.commandManager, "root");
+
+        // Act & Assert
+        assertThat(rules.test("perm.a")).isTrue();
+        assertThat(rules.test("perm.b")).isFalse();
+    }
+
+    @Test
+    void testSenderType() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("root").senderType(Integer.class));
+        final RootAccessRules<Object> rules = new RootAccessRules<>(this.commandManager, "root");
+
+        // Act & Assert
+        assertThat(rules.test(1)).isTrue();
+        assertThat(rules.test("1")).isFalse();
+    }
+
+    @Test
+    void testMissingRoot() {
+        // Arrange
+        final RootAccessRules<Object> rules = new RootAccessRules<>(this.commandManager, "root");
+
+        // Act & Assert
+        assertThat(rules.test("perm.a")).isFalse();
+    }
+
+    @Test
+    void testInvalidate() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("root").literal("a").permission("perm.a"));
+        final RootAccessRules<Object> rules = new RootAccessRules<>(this.commandManager, "root");
+        assertThat(rules.test("perm.b")).isFalse();
+
+        // Act
+        this.commandManager.command(this.commandManager.commandBuilder("root").literal("b").permission("perm.b"));
+        rules.invalidate();
+
+        // Assert
+        assertThat(rules.test("perm.a")).isTrue();
+        assertThat(rules.test("perm.b")).isTrue();
+    }
+
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return permission.isEmpty() || sender.equals(permission);
+        }
+    }
+}
@@ -25,8 +25,11 @@ package org.incendo.cloud.brigadier.parser;
 
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import java.util.Collections;
 import org.incendo.cloud.context.CommandInput;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static com.google.common.truth.Truth.assertThat;
 
@@ -128,4 +131,115 @@ class CloudStringReaderTest {
         assertThat(readInt).isEqualTo(123);
         assertThat(commandInput.remainingInput()).isEqualTo("abc");
     }
+
+    @Test
+    void testSharedReaderUpdatesInputOnRelease() throws CommandSyntaxException {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("hello some worlds");
+        final CommandInputStringReader stringReader = CommandInputStringReader.acquire(commandInput);
+
+        // Act
+        final String readString = stringReader.readString();
+        stringReader.skipWhitespace();
+        final String remainingBeforeRelease = commandInput.remainingInput();
+        stringReader.release(commandInput);
+
+        // Assert
+        assertThat(readString).isEqualTo("hello");
+        assertThat(remainingBeforeRelease).isEqualTo("hello some worlds");
+        assertThat(commandInput.remainingInput()).isEqualTo("some worlds");
+    }
+
+    @Test
+    void testSharedReaderStartsAtInputCursor() throws CommandSyntaxException {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("123 456");
+        commandInput.moveCursor(4);
+        final CommandInputStringReader stringReader = CommandInputStringReader.acquire(commandInput);
+
+        // Act
+        final int readInt = stringReader.readInt();
+        stringReader.release(commandInput);
+
+        // Assert
+        assertThat(readInt).isEqualTo(456);
+        assertThat(commandInput.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testSharedReaderReusedForSameBuffer() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("hello some worlds");
+
+        // Act
+        final CommandInputStringReader first = CommandInputStringReader.acquire(commandInput);
+        first.release(commandInput);
+        final CommandInputStringReader second = CommandInputStringReader.acquire(commandInput);
+        second.release(commandInput);
+
+        // Assert
+        assertThat(second).isSameInstanceAs(first);
+    }
+
+    @Test
+    void testSharedReaderNotReusedWhileInUse() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("hello some worlds");
+
+        // Act
+        final CommandInputStringReader outer = CommandInputStringReader.acquire(commandInput);
+        final CommandInputStringReader inner = CommandInputStringReader.acquire(commandInput);
+        inner.release(commandInput);
+        outer.release(commandInput);
+
+        // Assert
+        assertThat(inner).isNotSameInstanceAs(outer);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReaderType.class)
+    void testReadsAllArguments(final ReaderType readerType) throws CommandSyntaxException {
+        // Arrange
+        final String input = "stone 12345 \"quoted string argument\" " + String.join(" ", Collections.nCopies(64, "word"));
+        final CommandInput commandInput = CommandInput.of(input);
+
+        // Act
+        final int read = readerType.readAll(commandInput);
+
+        // Assert
+        assertThat(read).isEqualTo(67);
+        assertThat(commandInput.isEmpty()).isTrue();
+    }
+
+    enum ReaderType {
+        CLOUD_STRING_READER {
+            @Override
+            int readAll(final CommandInput commandInput) throws CommandSyntaxException {
+                return readWords(CloudStringReader.of(commandInput));
+            }
+        },
+        COMMAND_INPUT_STRING_READER {
+            @Override
+            int readAll(final CommandInput commandInput) throws CommandSyntaxException {
+                final CommandInputStringReader reader = CommandInputStringReader.acquire(commandInput);
+                try {
+                    return readWords(reader);
+                } finally {
+                    reader.release(commandInput);
+                }
+            }
+        };
+
+        abstract int readAll(CommandInput commandInput) throws CommandSyntaxException;
+
+        private static int readWords(final StringReader reader) throws CommandSyntaxException {
+            int read = 0;
+            while (reader.canRead()) {
+                reader.readString();
+                reader.skipWhitespace();
+                read++;
+            }
+            return read;
+        }
+    }
 }
@@ -0,0 +1,105 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.incendo.cloud.brigadier.util.TestCommandManager;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class WrappedBrigadierParserTest {
+
+    private CommandContext<Object> commandContext;
+
+    @BeforeEach
+    void setup() {
+        final TestCommandManager<Object> commandManager = new TestCommandManager<>();
+        this.commandContext = new StandardCommandContextFactory<>(commandManager).create(false, new Object());
+    }
+
+    @Test
+    void testNativeSenderIsCreatedOnce() {
+        // Arrange
+        final AtomicInteger created = new AtomicInteger();
+        this.commandContext.store(
+                WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER,
+                (Supplier<Object>) () -> "native" + created.incrementAndGet()
+        );
+
+        // Act
+        final boolean hasNativeSender = WrappedBrigadierParser.hasNativeSender(this.commandContext);
+        final String first = WrappedBrigadierParser.nativeSender(this.commandContext);
+        final String second = WrappedBrigadierParser.nativeSender(this.commandContext);
+
+        // Assert
+        assertThat(hasNativeSender).isTrue();
+        assertThat(first).isEqualTo("native1");
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testNativeSenderIsStoredUnderKey() {
+        // Arrange
+        this.commandContext.store(
+                WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER,
+                (Supplier<Object>) () -> "supplied"
+        );
+
+        // Act
+        final String nativeSender = WrappedBrigadierParser.nativeSender(this.commandContext);
+
+        // Assert
+        assertThat(this.commandContext.<String>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER))
+                .isSameInstanceAs(nativeSender);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testStoredNativeSenderTakesPrecedence() {
+        // Arrange
+        this.commandContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, "stored");
+        this.commandContext.store(
+                WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER,
+                (Supplier<Object>) () -> "supplied"
+        );
+
+        // Act
+        final String nativeSender = WrappedBrigadierParser.nativeSender(this.commandContext);
+
+        // Assert
+        assertThat(nativeSender).isEqualTo("stored");
+    }
+
+    @Test
+    void testNoNativeSender() {
+        assertThat(WrappedBrigadierParser.hasNativeSender(this.commandContext)).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import java.lang.management.ManagementFactory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the bytes allocated by the current thread per operation, used to report the allocation rate of the hot
+ * paths.
+ */
+public final class AllocationMeter {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Runs the operation until it has been compiled and returns the average number of bytes it allocates.
+     *
+     * <p>Skips the calling test when the JVM cannot report thread allocations.</p>
+     *
+     * @param operation operation to measure
+     * @return the allocated bytes per operation
+     */
+    public static long bytesPerOperation(final @NonNull Runnable operation) {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "thread allocation accounting is not available");
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "thread allocation accounting is not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+    }
+}
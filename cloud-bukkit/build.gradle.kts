@@ -9,6 +9,7 @@ dependencies {
     compileOnly(libs.bukkit)
     compileOnly(libs.commodore)
     testImplementation(libs.bukkit)
+    testImplementation(testFixtures(projects.cloudBrigadier))
     javadocLinks(libs.paperApi) {
         isTransitive = false
     }
@@ -23,11 +23,8 @@
 //
 package org.incendo.cloud.bukkit;
 
-import io.leangen.geantyref.GenericTypeReflector;
-import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -39,10 +36,12 @@ import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
+import org.incendo.cloud.brigadier.internal.RootAccessRules;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.description.CommandDescription;
 import org.incendo.cloud.internal.CommandNode;
-import org.incendo.cloud.permission.Permission;
+import org.incendo.cloud.minecraft.instrumentation.CommandEvents;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.Suggestions;
 import org.incendo.cloud.util.StringUtils;
@@ -54,7 +53,11 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
     private final CommandComponent<C> command;
     private final BukkitCommandManager<C> manager;
     private final Command<C> cloudCommand;
+    private final String resolvedDescription;
 
+    private final RootAccessRules<C> accessRules;
+
+    private volatile @Nullable String usage;
     private boolean disabled;
 
     private static @NonNull String description(final @NonNull Command<?> command) {
@@ -87,6 +90,9 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
         this.command = command;
         this.manager = manager;
         this.cloudCommand = cloudCommand;
+        this.accessRules = new RootAccessRules<>(manager, command.name());
+        /* Resolved by the super constructor call, the command meta and description do not change */
+        this.resolvedDescription = super.getDescription();
         this.disabled = false;
     }
 
@@ -96,19 +102,24 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
             final @NonNull String alias,
             final @NonNull String @NonNull [] args
     ) throws IllegalArgumentException {
+        final @Nullable Object event = CommandEvents.beginSuggest();
+        final CommandMetrics metrics = CommandMetrics.installed();
+        final long start = metrics.time();
         final StringBuilder builder = new StringBuilder(this.command.name());
         for (final String string : args) {
             builder.append(" ").append(string);
         }
-        final Suggestions<C, ?> result = this.manager.suggestionFactory().suggestImmediately(
-                this.manager.senderMapper().map(sender),
-                builder.toString()
-        );
-        return result.list().stream()
+        final String input = builder.toString();
+        final C cloudSender = this.manager.senderMapper().map(sender);
+        final Suggestions<C, ?> result = this.manager.suggestionFactory().suggestImmediately(cloudSender, input);
+        final List<String> suggestions = result.list().stream()
                 .map(Suggestion::suggestion)
                 .map(suggestion -> StringUtils.trimBeforeLastSpace(suggestion, result.commandInput()))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        CommandEvents.commitSuggest(event, CommandEvents.SOURCE_BUKKIT, input, cloudSender, suggestions.size());
+        metrics.recordSuggestions(metrics.time() - start);
+        return suggestions;
     }
 
     @Override
@@ -122,14 +133,39 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
         for (final String string : strings) {
             builder.append(" ").append(string);
         }
-        final C sender = this.manager.senderMapper().map(commandSender);
-        this.manager.commandExecutor().executeCommand(sender, builder.toString());
+        this.dispatch(commandSender, builder.toString());
         return true;
     }
 
+    /**
+     * Executes the input, which must start with the name of the root command.
+     *
+     * @param commandSender the sender
+     * @param input         the command input
+     */
+    void dispatch(final @NonNull CommandSender commandSender, final @NonNull String input) {
+        final @Nullable Object event = CommandEvents.beginExecute();
+        final C sender = this.manager.senderMapper().map(commandSender);
+        this.manager.commandExecutor().executeCommand(sender, input)
+                .whenComplete((result, failure) -> {
+                    CommandEvents.commitExecute(event, CommandEvents.SOURCE_BUKKIT, input, sender);
+                    CommandMetrics.installed().recordFailure(failure);
+                });
+        CommandMetrics.installed().recordExecution(this.command.name());
+    }
+
+    /**
+     * Returns the name of the root command.
+     *
+     * @return the root name
+     */
+    @NonNull String rootName() {
+        return this.command.name();
+    }
+
     @Override
     public @NonNull String getDescription() {
-        return description(this.cloudCommand);
+        return this.resolvedDescription;
     }
 
     @Override
@@ -139,36 +175,38 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
 
     @Override
     public @NonNull String getUsage() {
+        final @Nullable String cachedUsage = this.usage;
+        if (cachedUsage != null) {
+            return cachedUsage;
+        }
         final CommandNode<C> node = this.namedNode();
         if (node == null) {
             this.getPlugin().getLogger().log(Level.WARNING, "Node does not exist in tree for command " + this.getLabel() + ".");
             return "";
         }
-        return this.manager.commandSyntaxFormatter().apply(
+        final String usage = this.manager.commandSyntaxFormatter().apply(
             null,
             Collections.singletonList(requireNonNull(node.component())),
             node
         );
+        this.usage = usage;
+        return usage;
     }
 
     @Override
     public boolean testPermissionSilent(final @NonNull CommandSender target) {
-        final CommandNode<C> node = this.namedNode();
-        if (this.disabled || node == null) {
+        if (this.disabled) {
             return false;
         }
+        return this.accessRules.test(this.manager.senderMapper().map(target));
+    }
 
-        final Map<Type, Permission> accessMap =
-            node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
-        final C cloudSender = this.manager.senderMapper().map(target);
-        for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
-            if (GenericTypeReflector.isSuperType(entry.getKey(), cloudSender.getClass())) {
-                if (this.manager.testPermission(cloudSender, entry.getValue()).allowed()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    /**
+     * Drops the cached usage and access rules, called when the tree below the root command changes.
+     */
+    void invalidate() {
+        this.usage = null;
+        this.accessRules.invalidate();
     }
 
     @API(status = API.Status.INTERNAL, since = "1.7.0")
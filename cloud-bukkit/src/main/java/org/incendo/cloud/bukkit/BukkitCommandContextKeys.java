@@ -56,6 +56,20 @@ public final class BukkitCommandContextKeys {
     public static final CloudKey<Executor> SENDER_SCHEDULER_EXECUTOR = CloudKey.of(
             "SenderSchedulerExecutor", Executor.class);
 
+    /**
+     * Key used to store an {@link Executor} for the region the command operates on. On region threaded servers (Folia)
+     * this is the scheduler of the first entity or location argument that belongs to a region, such as a single entity
+     * selector or a location, falling back to the {@link #SENDER_SCHEDULER_EXECUTOR sender's scheduler}. Elsewhere, it is the
+     * main thread executor.
+     *
+     * <p>The region is known once parsing completed, so this should be used by command handlers, not by parsers.</p>
+     *
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public static final CloudKey<Executor> REGION_SCHEDULER_EXECUTOR = CloudKey.of(
+            "RegionSchedulerExecutor", Executor.class);
+
     private BukkitCommandContextKeys() {
     }
 }
@@ -25,6 +25,7 @@ package org.incendo.cloud.bukkit;
 
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.logging.Level;
@@ -46,6 +47,7 @@ import org.incendo.cloud.bukkit.annotation.specifier.RequireExplicitNamespace;
 import org.incendo.cloud.bukkit.data.MultipleEntitySelector;
 import org.incendo.cloud.bukkit.data.MultiplePlayerSelector;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
+import org.incendo.cloud.bukkit.internal.WorldIndex;
 import org.incendo.cloud.bukkit.parser.BlockPredicateParser;
 import org.incendo.cloud.bukkit.parser.EnchantmentParser;
 import org.incendo.cloud.bukkit.parser.ItemStackParser;
@@ -77,6 +79,7 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C>
 
     private final Plugin owningPlugin;
     private final SenderMapper<CommandSender, C> senderMapper;
+    private final MainThreadExecutor mainThreadExecutor;
 
     private boolean splitAliases = false;
 
@@ -113,6 +116,7 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C>
         }
         this.owningPlugin = owningPlugin;
         this.senderMapper = senderMapper;
+        this.mainThreadExecutor = new MainThreadExecutor(owningPlugin);
 
         /* Register capabilities */
         CloudBukkitCapabilities.CAPABLE.forEach(this::registerCapability);
@@ -181,6 +185,25 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C>
                 this.owningPlugin
         );
 
+        /* Index worlds for the world parsers */
+        WorldIndex.track(this.owningPlugin);
+
+        /* Register registry index invalidation, ServerLoadEvent is missing on the earliest 1.13 builds */
+        if (CraftBukkitReflection.classExists("org.bukkit.event.server.ServerLoadEvent")) {
+            this.owningPlugin.getServer().getPluginManager().registerEvents(
+                    new RegistryIndexListener(),
+                    this.owningPlugin
+            );
+        }
+
+        /* Register command build context invalidation, on 1.19+ */
+        if (CraftBukkitReflection.findMCClass("commands.CommandBuildContext") != null) {
+            this.owningPlugin.getServer().getPluginManager().registerEvents(
+                    new CommandBuildContextListener(),
+                    this.owningPlugin
+            );
+        }
+
         this.registerDefaultExceptionHandlers();
         this.captionRegistry().registerProvider(new BukkitDefaultCaptionsProvider<>());
     }
@@ -209,6 +232,26 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C>
         return this.senderMapper.reverse(sender).hasPermission(permission);
     }
 
+    /**
+     * Sets the time the main thread may spend per tick running tasks that were submitted from other threads to the
+     * main thread {@link BukkitCommandContextKeys#SENDER_SCHEDULER_EXECUTOR sender scheduler executor}, such as
+     * entity selector resolution for asynchronous suggestions.
+     *
+     * <p>Queued tasks are run by a single repeating task, the remaining tasks run on the next tick once the budget is
+     * exhausted. Defaults to 5 milliseconds.</p>
+     *
+     * @param budget time budget per tick
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final void mainThreadTickBudget(final @NonNull Duration budget) {
+        this.mainThreadExecutor.tickBudget(budget.toNanos());
+    }
+
+    final @NonNull Executor mainThreadExecutor() {
+        return this.mainThreadExecutor;
+    }
+
     @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
     protected final boolean splitAliases() {
         return this.splitAliases;
@@ -296,6 +339,32 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C>
                 + "current environment, or it is not enabled.");
     }
 
+    /**
+     * Registers a listener that dispatches the commands of this manager with the raw input of
+     * {@link org.bukkit.event.player.PlayerCommandPreprocessEvent} and {@link org.bukkit.event.server.ServerCommandEvent}.
+     *
+     * <p>By default, Bukkit splits the input on spaces and cloud joins the arguments again before tokenizing the input
+     * itself. Dispatching the raw input skips that round trip, which matters for long inputs with quoted or greedy
+     * arguments, and keeps the whitespace of the input intact.</p>
+     *
+     * <p>The listener runs at {@link org.bukkit.event.EventPriority#HIGHEST} and cancels the events of the commands it
+     * dispatches, so that Bukkit does not dispatch them a second time.</p>
+     *
+     * <p>The commands are looked up when the events are handled, so this may be called before or after commands have
+     * been registered. It should only be called once.</p>
+     *
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final void registerRawInputDispatch() {
+        this.owningPlugin.getServer().getPluginManager().registerEvents(
+                new RawInputDispatchListener<C>(
+                        label -> ((BukkitPluginRegistrationHandler<C>) this.commandRegistrationHandler()).recognizedCommand(label)
+                ),
+                this.owningPlugin
+        );
+    }
+
     /**
      * Strip the plugin namespace from a plugin namespaced command. This
      * will also strip the leading '/' if it's present
@@ -23,9 +23,7 @@
 //
 package org.incendo.cloud.bukkit;
 
-import java.util.concurrent.Executor;
-import org.bukkit.Server;
-import org.bukkit.plugin.Plugin;
+import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
@@ -62,13 +60,16 @@ final class BukkitCommandPreprocessor<C> implements CommandPreprocessor<C> {
 
     @Override
     public void accept(final @NonNull CommandPreprocessingContext<C> context) {
-        if (this.mapper != null) {
+        final @Nullable BukkitBackwardsBrigadierSenderMapper<C, ?> mapper = this.mapper;
+        if (mapper != null) {
             // If the server is Brigadier capable but the Brigadier manager has not been registered, store the native
             // sender in context manually so that getting suggestions from WrappedBrigadierParser works like expected.
-            if (!context.commandContext().contains(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)) {
+            // Creating it is expensive, so only a supplier is stored and the sender is created on first use.
+            if (!WrappedBrigadierParser.hasNativeSender(context.commandContext())) {
+                final C sender = context.commandContext().sender();
                 context.commandContext().store(
-                        WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER,
-                        this.mapper.apply(context.commandContext().sender())
+                        WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER,
+                        (Supplier<Object>) () -> mapper.apply(sender)
                 );
             }
         }
@@ -78,21 +79,17 @@ final class BukkitCommandPreprocessor<C> implements CommandPreprocessor<C> {
         );
 
         // Store if PaperCommandManager's preprocessor didn't already
-        context.commandContext().computeIfAbsent(
-                BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR,
-                $ -> this.mainThreadExecutor()
-        );
-    }
-
-    private Executor mainThreadExecutor() {
-        final Plugin plugin = this.commandManager.owningPlugin();
-        final Server server = plugin.getServer();
-        return task -> {
-            if (server.isPrimaryThread()) {
-                task.run();
-                return;
-            }
-            server.getScheduler().runTask(plugin, task);
-        };
+        if (!context.commandContext().contains(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR)) {
+            context.commandContext().store(
+                    BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR,
+                    this.commandManager.mainThreadExecutor()
+            );
+        }
+        if (!context.commandContext().contains(BukkitCommandContextKeys.REGION_SCHEDULER_EXECUTOR)) {
+            context.commandContext().store(
+                    BukkitCommandContextKeys.REGION_SCHEDULER_EXECUTOR,
+                    this.commandManager.mainThreadExecutor()
+            );
+        }
     }
 }
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import org.apiguardian.api.API;
 import org.bukkit.Bukkit;
@@ -41,6 +42,7 @@ import org.bukkit.command.PluginIdentifiableCommand;
 import org.bukkit.command.SimpleCommandMap;
 import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
@@ -50,7 +52,7 @@ import org.incendo.cloud.setting.ManagerSetting;
 public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHandler<C> {
 
     private final Map<CommandComponent<C>, RegisteredCommandData<C>> registeredCommands = new HashMap<>();
-    private final Set<String> recognizedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, BukkitCommand<C>> recognizedAliases = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
     private Map<String, org.bukkit.command.Command> bukkitCommands;
     private BukkitCommandManager<C> bukkitCommandManager;
@@ -75,8 +77,13 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
     public final boolean registerCommand(final @NonNull Command<C> command) {
         /* We only care about the root command argument */
         final CommandComponent<C> component = command.rootComponent();
+        final RegisteredCommandData<C> existing = this.registeredCommands.get(component);
+        if (existing != null) {
+            /* A command was added below an existing root, drop what was derived from its tree */
+            existing.bukkit.invalidate();
+        }
         if (!(this.bukkitCommandManager.commandRegistrationHandler() instanceof CloudCommodoreManager)
-                && this.registeredCommands.containsKey(component)) {
+                && existing != null) {
             return false;
         }
         final String label = component.name();
@@ -118,7 +125,7 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
                 bukkitCommand
         );
 
-        this.recognizedAliases.addAll(newAliases);
+        newAliases.forEach(alias -> this.recognizedAliases.put(alias, bukkitCommand));
         if (this.bukkitCommandManager.splitAliases()) {
             newAliases.forEach(alias -> this.registerExternal(alias, command, bukkitCommand));
         }
@@ -143,7 +150,7 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
             this.bukkitCommands.remove(alias);
         }
 
-        this.recognizedAliases.removeAll(registeredAliases);
+        this.recognizedAliases.keySet().removeAll(registeredAliases);
         if (this.bukkitCommandManager.splitAliases()) {
             registeredAliases.forEach(this::unregisterExternal);
         }
@@ -173,7 +180,17 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
      * @return {@code true} if the alias is recognized, else {@code false}
      */
     public boolean isRecognized(final @NonNull String alias) {
-        return this.recognizedAliases.contains(alias);
+        return this.recognizedAliases.containsKey(alias);
+    }
+
+    /**
+     * Returns the command registered under the given alias, if the alias is recognized by this registration handler.
+     *
+     * @param alias alias, matched case-insensitively
+     * @return the command, or {@code null}
+     */
+    final @Nullable BukkitCommand<C> recognizedCommand(final @NonNull String alias) {
+        return this.recognizedAliases.get(alias);
     }
 
     protected void registerExternal(
@@ -0,0 +1,111 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Executor running tasks on the main thread. Tasks submitted from the main thread run immediately, tasks submitted
+ * from other threads are queued and drained by a single task, instead of scheduling a task per submission. The drain
+ * is only scheduled while tasks are queued, so an idle executor costs nothing per tick.
+ *
+ * <p>The drain stops when the per-tick time budget is exhausted and continues on the next tick. At least one task
+ * runs every tick.</p>
+ */
+final class MainThreadExecutor implements Executor {
+
+    static final long DEFAULT_TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Plugin plugin;
+
+    private volatile long tickBudgetNanos = DEFAULT_TICK_BUDGET_NANOS;
+
+    MainThreadExecutor(final @NonNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void execute(final @NonNull Runnable task) {
+        final Server server = this.plugin.getServer();
+        if (server.isPrimaryThread()) {
+            task.run();
+            return;
+        }
+        this.tasks.offer(task);
+        if (!this.scheduled.get() && this.scheduled.compareAndSet(false, true)) {
+            try {
+                this.scheduleDrain();
+            } catch (final RuntimeException e) {
+                this.scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Sets the time the main thread may spend per tick running queued tasks.
+     *
+     * @param tickBudgetNanos time budget in nanoseconds
+     */
+    void tickBudget(final long tickBudgetNanos) {
+        if (tickBudgetNanos <= 0) {
+            throw new IllegalArgumentException("The tick budget must be positive");
+        }
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    private void scheduleDrain() {
+        this.plugin.getServer().getScheduler().runTask(this.plugin, this::drain);
+    }
+
+    private void drain() {
+        final long deadline = System.nanoTime() + this.tickBudgetNanos;
+        for (Runnable task = this.tasks.poll(); task != null; task = this.tasks.poll()) {
+            try {
+                task.run();
+            } catch (final Throwable e) {
+                this.plugin.getLogger().log(Level.SEVERE, "Exception running a queued main thread task", e);
+            }
+            if (System.nanoTime() - deadline >= 0 && !this.tasks.isEmpty()) {
+                this.scheduleDrain();
+                return;
+            }
+        }
+        this.scheduled.set(false);
+        // A task queued after the last poll saw the drain as still scheduled, and would otherwise wait for the next one
+        if (!this.tasks.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+            this.scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import java.util.function.Function;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Dispatches recognized commands with the raw input of the command events, before Bukkit splits the input into
+ * arguments that {@link BukkitCommand} would have to join again.
+ *
+ * @param <C> command sender type
+ */
+final class RawInputDispatchListener<C> implements Listener {
+
+    private final Function<@NonNull String, @Nullable BukkitCommand<C>> commands;
+
+    /**
+     * Creates a new listener.
+     *
+     * @param commands looks up the command recognized under a label, the lookup happens when the event is handled
+     */
+    RawInputDispatchListener(final @NonNull Function<@NonNull String, @Nullable BukkitCommand<C>> commands) {
+        this.commands = commands;
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    void onPlayerCommand(final @NonNull PlayerCommandPreprocessEvent event) {
+        if (this.dispatch(event.getPlayer(), event.getMessage())) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    void onServerCommand(final @NonNull ServerCommandEvent event) {
+        if (this.dispatch(event.getSender(), event.getCommand())) {
+            event.setCancelled(true);
+        }
+    }
+
+    private boolean dispatch(final @NonNull CommandSender sender, final @NonNull String rawInput) {
+        /* Find the label in '/plugin:label arg1 arg2 ...' without splitting the input */
+        final int start = rawInput.startsWith("/") ? 1 : 0;
+        final int space = rawInput.indexOf(' ', start);
+        final int end = space == -1 ? rawInput.length() : space;
+        if (end == start) {
+            return false;
+        }
+
+        final String label = rawInput.substring(start, end);
+        final @Nullable BukkitCommand<C> command = this.commands.apply(label);
+        if (command == null) {
+            return false;
+        }
+
+        /* Like Bukkit, resolve aliases and namespaced labels to the root command */
+        final String rootName = command.rootName();
+        final String input = label.equals(rootName)
+                ? rawInput.substring(start)
+                : rootName.concat(rawInput.substring(end));
+        command.dispatch(sender, input);
+        return true;
+    }
+}
@@ -23,6 +23,9 @@
 //
 package org.incendo.cloud.bukkit.data;
 
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -53,6 +56,11 @@ public interface ProtoItemStack {
     /**
      * Create a new {@link ItemStack} from the state of this {@link ProtoItemStack}.
      *
+     * <p>Since 2.0.0, the stacks created by {@link org.incendo.cloud.bukkit.parser.ItemStackParser} on Minecraft 1.13
+     * and newer are {@code CraftItemStack} mirrors of a newly created server item stack, from
+     * {@code CraftItemStack#asCraftMirror}, rather than plain {@link ItemStack ItemStacks} copied by
+     * {@code CraftItemStack#asBukkitCopy}. Their {@link Object#getClass() class} differs accordingly.</p>
+     *
      * @param stackSize               stack size
      * @param respectMaximumStackSize whether to respect the maximum stack size for the material
      * @return the created {@link ItemStack}
@@ -61,4 +69,40 @@ public interface ProtoItemStack {
      */
     @NonNull ItemStack createItemStack(int stackSize, boolean respectMaximumStackSize)
             throws IllegalArgumentException;
+
+    /**
+     * Create {@code count} new {@link ItemStack ItemStacks} from the state of this {@link ProtoItemStack}, for example to
+     * give the same item to many players.
+     *
+     * <p>The item is created once and then {@link ItemStack#clone() cloned}, which is cheaper than calling
+     * {@link #createItemStack(int, boolean)} for every stack. The clones are of the same class as the created stack.</p>
+     *
+     * @param count                   number of stacks to create
+     * @param stackSize               stack size
+     * @param respectMaximumStackSize whether to respect the maximum stack size for the material
+     * @return the created {@link ItemStack ItemStacks}, which are independent of each other
+     * @throws IllegalArgumentException if {@code count} is negative, or the {@link ItemStack} could not be created, due to
+     *                                  max stack size or other reasons
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    default @NonNull List<@NonNull ItemStack> createItemStacks(
+            final int count,
+            final int stackSize,
+            final boolean respectMaximumStackSize
+    ) throws IllegalArgumentException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative, was " + count);
+        }
+        final List<ItemStack> stacks = new ArrayList<>(count);
+        if (count == 0) {
+            return stacks;
+        }
+        final ItemStack template = this.createItemStack(stackSize, respectMaximumStackSize);
+        stacks.add(template);
+        for (int i = 1; i < count; i++) {
+            stacks.add(template.clone());
+        }
+        return stacks;
+    }
 }
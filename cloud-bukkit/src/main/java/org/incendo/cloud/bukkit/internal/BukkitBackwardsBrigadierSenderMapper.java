@@ -23,7 +23,7 @@
 //
 package org.incendo.cloud.bukkit.internal;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.bukkit.command.CommandSender;
@@ -38,8 +38,8 @@ public final class BukkitBackwardsBrigadierSenderMapper<C, S> implements Functio
 
     private static final Class<?> VANILLA_COMMAND_WRAPPER_CLASS =
             CraftBukkitReflection.needOBCClass("command.VanillaCommandWrapper");
-    private static final Method GET_LISTENER_METHOD =
-            CraftBukkitReflection.needMethod(VANILLA_COMMAND_WRAPPER_CLASS, "getListener", CommandSender.class);
+    private static final MethodHandle GET_LISTENER_METHOD =
+            CraftBukkitReflection.needMethodHandle(VANILLA_COMMAND_WRAPPER_CLASS, "getListener", CommandSender.class);
 
     private final BukkitCommandManager<C> commandManager;
 
@@ -51,8 +51,8 @@ public final class BukkitBackwardsBrigadierSenderMapper<C, S> implements Functio
     @Override
     public S apply(final @NonNull C cloud) {
         try {
-            return (S) GET_LISTENER_METHOD.invoke(null, this.commandManager.senderMapper().reverse(cloud));
-        } catch (final ReflectiveOperationException e) {
+            return (S) GET_LISTENER_METHOD.invoke(this.commandManager.senderMapper().reverse(cloud));
+        } catch (final Throwable e) {
             throw new RuntimeException(e);
         }
     }
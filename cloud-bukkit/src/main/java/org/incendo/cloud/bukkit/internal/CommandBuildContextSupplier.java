@@ -23,13 +23,15 @@
 //
 package org.incendo.cloud.bukkit.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -39,104 +41,129 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public final class CommandBuildContextSupplier {
 
     private static final Class<?> COMMAND_BUILD_CONTEXT_CLASS = CraftBukkitReflection.needMCClass("commands.CommandBuildContext");
-    private static final @Nullable Constructor<?> COMMAND_BUILD_CONTEXT_CTR;
-    private static final @Nullable Method CREATE_CONTEXT_METHOD;
-    private static final @Nullable Method GET_WORLD_DATA_METHOD;
-    private static final @Nullable Method GET_FEATURE_FLAGS_METHOD;
-    private static final Class<?> REG_ACC_CLASS;
     private static final Class<?> MC_SERVER_CLASS = CraftBukkitReflection.needNMSClassOrElse(
             "MinecraftServer", "net.minecraft.server.MinecraftServer"
     );
+    /* Adapted to Object parameters and return types, so the handles can be invoked exactly */
+    private static final @Nullable MethodHandle COMMAND_BUILD_CONTEXT_CTR;
+    private static final @Nullable MethodHandle CREATE_CONTEXT_METHOD;
+    private static final @Nullable MethodHandle GET_WORLD_DATA_METHOD;
+    private static final @Nullable MethodHandle GET_FEATURE_FLAGS_METHOD;
+    private static final MethodHandle GET_SERVER_METHOD;
+    private static final MethodHandle REGISTRY_ACCESS;
 
     static {
-        @Nullable Constructor<?> ctr;
-        try {
-            ctr = COMMAND_BUILD_CONTEXT_CLASS.getDeclaredConstructors()[0];
-        } catch (final Exception ex) {
-            ctr = null;
-        }
-        COMMAND_BUILD_CONTEXT_CTR = ctr;
-
-        if (COMMAND_BUILD_CONTEXT_CTR == null) {
-            final List<Method> matchingFactoryMethods = Arrays.stream(COMMAND_BUILD_CONTEXT_CLASS.getDeclaredMethods())
+        final Constructor<?>[] constructors = COMMAND_BUILD_CONTEXT_CLASS.getDeclaredConstructors();
+        final Class<?> regAccClass;
+        if (constructors.length != 0) {
+            final Class<?>[] parameters = constructors[0].getParameterTypes();
+            COMMAND_BUILD_CONTEXT_CTR = generic(CraftBukkitReflection.needConstructorHandle(COMMAND_BUILD_CONTEXT_CLASS, parameters));
+            CREATE_CONTEXT_METHOD = null;
+            GET_WORLD_DATA_METHOD = null;
+            GET_FEATURE_FLAGS_METHOD = null;
+            regAccClass = parameters[0];
+        } else {
+            COMMAND_BUILD_CONTEXT_CTR = null;
+            final List<Method> matchingFactoryMethods = CraftBukkitReflection.streamMethods(COMMAND_BUILD_CONTEXT_CLASS)
                 .filter(it -> it.getParameterCount() == 2 && COMMAND_BUILD_CONTEXT_CLASS.isAssignableFrom(it
                     .getReturnType()) && Modifier.isStatic(it.getModifiers()))
                 .collect(Collectors.toList());
+            final Method createContextMethod;
             if (matchingFactoryMethods.size() == 1) {
                 // 1.20.5+
-                CREATE_CONTEXT_METHOD = matchingFactoryMethods.get(0);
+                createContextMethod = matchingFactoryMethods.get(0);
             } else if (matchingFactoryMethods.size() > 1) {
                 // 1.20.4 and below
-                CREATE_CONTEXT_METHOD = matchingFactoryMethods.get(1);
+                createContextMethod = matchingFactoryMethods.get(1);
             } else {
                 throw new IllegalStateException("Could not find CommandBuildContext factory method");
             }
+            CREATE_CONTEXT_METHOD = unreflect(createContextMethod);
+            regAccClass = createContextMethod.getParameterTypes()[0];
 
             final Class<?> worldDataCls = CraftBukkitReflection.firstNonNullOrThrow(
                     () -> "Could not find WorldData class",
                     CraftBukkitReflection.findMCClass("world.level.storage.SaveData"),
                     CraftBukkitReflection.findMCClass("world.level.storage.WorldData")
             );
-            GET_WORLD_DATA_METHOD = Arrays.stream(MC_SERVER_CLASS.getDeclaredMethods())
+            GET_WORLD_DATA_METHOD = unreflect(CraftBukkitReflection.streamMethods(MC_SERVER_CLASS)
                     .filter(it -> it.getParameterCount() == 0 && !Modifier.isStatic(it.getModifiers()) && it
                             .getReturnType()
                             .equals(worldDataCls))
                     .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("Could not find MinecraftServer#getWorldData method"));
+                    .orElseThrow(() -> new IllegalStateException("Could not find MinecraftServer#getWorldData method")));
             final Class<?> featureFlagSetCls = CraftBukkitReflection.needMCClass("world.flag.FeatureFlagSet");
-            GET_FEATURE_FLAGS_METHOD = Arrays.stream(worldDataCls.getDeclaredMethods())
+            GET_FEATURE_FLAGS_METHOD = unreflect(CraftBukkitReflection.streamMethods(worldDataCls)
                     .filter(it -> it.getParameterCount() == 0 && it
                             .getReturnType()
                             .equals(featureFlagSetCls) && !Modifier.isStatic(it.getModifiers()))
                     .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("Could not find enabledFeatures method"));
-        } else {
-            CREATE_CONTEXT_METHOD = null;
-            GET_WORLD_DATA_METHOD = null;
-            GET_FEATURE_FLAGS_METHOD = null;
+                    .orElseThrow(() -> new IllegalStateException("Could not find enabledFeatures method")));
         }
 
-        REG_ACC_CLASS = COMMAND_BUILD_CONTEXT_CTR != null
-                ? COMMAND_BUILD_CONTEXT_CTR.getParameterTypes()[0]
-                : CREATE_CONTEXT_METHOD.getParameterTypes()[0];
+        REGISTRY_ACCESS = unreflect(CraftBukkitReflection.streamMethods(MC_SERVER_CLASS)
+                .filter(m -> regAccClass.isAssignableFrom(m.getReturnType()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Cannot find MinecraftServer#registryAccess")));
+        GET_SERVER_METHOD = generic(CraftBukkitReflection.needMethodHandle(MC_SERVER_CLASS, "getServer"));
     }
 
-    private static final Method GET_SERVER_METHOD;
-    private static final Method REGISTRY_ACCESS = Arrays.stream(MC_SERVER_CLASS.getDeclaredMethods())
-            .filter(m -> REG_ACC_CLASS.isAssignableFrom(m.getReturnType()))
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("Cannot find MinecraftServer#registryAccess"));
+    private static volatile @Nullable Object commandBuildContext;
 
-    static {
-        try {
-            GET_SERVER_METHOD = MC_SERVER_CLASS.getDeclaredMethod("getServer");
-        } catch (final NoSuchMethodException e) {
-            throw new RuntimeException(e);
+    private CommandBuildContextSupplier() {
+    }
+
+    /**
+     * Returns the command build context for the current registries, shared until {@link #invalidate()} is called.
+     *
+     * @return the command build context
+     */
+    public static Object commandBuildContext() {
+        @Nullable Object context = commandBuildContext;
+        if (context == null) {
+            // Racing threads build equivalent contexts for the same registries
+            context = createCommandBuildContext();
+            commandBuildContext = context;
         }
+        return context;
     }
 
-    private CommandBuildContextSupplier() {
+    /**
+     * Discards the cached command build context, to be called when registries or datapacks are reloaded.
+     */
+    public static void invalidate() {
+        commandBuildContext = null;
     }
 
-    public static Object commandBuildContext() {
-        if (COMMAND_BUILD_CONTEXT_CTR != null) {
-            try {
-                final Object server = GET_SERVER_METHOD.invoke(null);
-                return COMMAND_BUILD_CONTEXT_CTR.newInstance(REGISTRY_ACCESS.invoke(server));
-            } catch (final ReflectiveOperationException e) {
-                throw new RuntimeException(e);
-            }
-        } else if (CREATE_CONTEXT_METHOD != null && GET_WORLD_DATA_METHOD != null && GET_FEATURE_FLAGS_METHOD != null) {
-            try {
-                final Object server = GET_SERVER_METHOD.invoke(null);
-                final Object worldData = GET_WORLD_DATA_METHOD.invoke(server);
-                final Object flags = GET_FEATURE_FLAGS_METHOD.invoke(worldData);
-                return CREATE_CONTEXT_METHOD.invoke(null, REGISTRY_ACCESS.invoke(server), flags);
-            } catch (final ReflectiveOperationException e) {
-                throw new RuntimeException(e);
+    private static Object createCommandBuildContext() {
+        try {
+            final Object server = (Object) GET_SERVER_METHOD.invokeExact();
+            final Object registryAccess = (Object) REGISTRY_ACCESS.invokeExact(server);
+            if (COMMAND_BUILD_CONTEXT_CTR != null) {
+                return (Object) COMMAND_BUILD_CONTEXT_CTR.invokeExact(registryAccess);
+            } else if (CREATE_CONTEXT_METHOD != null && GET_WORLD_DATA_METHOD != null && GET_FEATURE_FLAGS_METHOD != null) {
+                final Object worldData = (Object) GET_WORLD_DATA_METHOD.invokeExact(server);
+                final Object flags = (Object) GET_FEATURE_FLAGS_METHOD.invokeExact(worldData);
+                return (Object) CREATE_CONTEXT_METHOD.invokeExact(registryAccess, flags);
+            } else {
+                throw new IllegalStateException();
             }
-        } else {
-            throw new IllegalStateException();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static @NonNull MethodHandle unreflect(final @NonNull Method method) {
+        try {
+            return generic(CraftBukkitReflection.unreflect(method));
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
         }
     }
+
+    private static @NonNull MethodHandle generic(final @NonNull MethodHandle handle) {
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
 }
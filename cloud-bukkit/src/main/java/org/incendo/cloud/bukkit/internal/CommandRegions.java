@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import org.apiguardian.api.API;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * Lets parsers declare the region their result belongs to, so that on region threaded servers (Folia) the
+ * {@link org.incendo.cloud.bukkit.BukkitCommandContextKeys#REGION_SCHEDULER_EXECUTOR region scheduler executor} can run
+ * tasks on the thread owning it. The first argument declaring a region decides.
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class CommandRegions {
+
+    private static final boolean REGIONIZED =
+            CraftBukkitReflection.classExists("io.papermc.paper.threadedregions.RegionizedServer");
+    private static final CloudKey<Entity> REGION_ENTITY = CloudKey.of("cloud:bukkit/region_entity", Entity.class);
+    private static final CloudKey<Location> REGION_LOCATION = CloudKey.of("cloud:bukkit/region_location", Location.class);
+
+    private CommandRegions() {
+    }
+
+    /**
+     * Declares that the command operates on the region of the entity, which follows the entity as it moves.
+     *
+     * @param context command context
+     * @param entity  entity
+     */
+    public static void declare(final @NonNull CommandContext<?> context, final @NonNull Entity entity) {
+        if (REGIONIZED && !declared(context)) {
+            context.store(REGION_ENTITY, entity);
+        }
+    }
+
+    /**
+     * Declares that the command operates on the region containing the location.
+     *
+     * @param context  command context
+     * @param location location, ignored if it has no world
+     */
+    public static void declare(final @NonNull CommandContext<?> context, final @NonNull Location location) {
+        if (REGIONIZED && location.getWorld() != null && !declared(context)) {
+            context.store(REGION_LOCATION, location);
+        }
+    }
+
+    /**
+     * Returns the entity declared by {@link #declare(CommandContext, Entity)}.
+     *
+     * @param context command context
+     * @return the entity, or {@code null}
+     */
+    public static @Nullable Entity entity(final @NonNull CommandContext<?> context) {
+        return context.getOrDefault(REGION_ENTITY, null);
+    }
+
+    /**
+     * Returns the location declared by {@link #declare(CommandContext, Location)}.
+     *
+     * @param context command context
+     * @return the location, or {@code null}
+     */
+    public static @Nullable Location location(final @NonNull CommandContext<?> context) {
+        return context.getOrDefault(REGION_LOCATION, null);
+    }
+
+    private static boolean declared(final @NonNull CommandContext<?> context) {
+        return context.contains(REGION_ENTITY) || context.contains(REGION_LOCATION);
+    }
+}
@@ -23,10 +23,18 @@
 //
 package org.incendo.cloud.bukkit.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apiguardian.api.API;
@@ -36,6 +44,10 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Utilities for doing reflection on CraftBukkit, used by the cloud implementation.
+ *
+ * <p>Resolved classes, fields, methods, constructors and method handles are memoized, including failed lookups, so the
+ * parsers resolving overlapping members during initialization only pay for each lookup once. The time spent resolving
+ * them is summarized by {@link #reflectionReport()}.</p>
  */
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 @SuppressWarnings("EmptyCatch")
@@ -48,6 +60,25 @@ public final class CraftBukkitReflection {
     private static final String CB_PKG_VERSION;
     public static final int MAJOR_REVISION;
 
+    private static final Map<String, Optional<Class<?>>> CLASSES = new ConcurrentHashMap<>();
+    private static final ClassValue<Map<MemberKey, Optional<Object>>> MEMBERS = new ClassValue<Map<MemberKey, Optional<Object>>>() {
+        @Override
+        protected Map<MemberKey, Optional<Object>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ClassValue<Method[]> DECLARED_METHODS = new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(final Class<?> type) {
+            final long start = System.nanoTime();
+            try {
+                return type.getDeclaredMethods();
+            } finally {
+                LookupKind.SCAN.resolved(start);
+            }
+        }
+    };
+
     static {
         final Class<?> serverClass = Bukkit.getServer().getClass();
         final String pkg = serverClass.getPackage().getName();
@@ -139,29 +170,41 @@ public final class CraftBukkitReflection {
     }
 
     public static @NonNull Class<?> needClass(final @NonNull String className) throws RuntimeException {
-        try {
-            return Class.forName(className);
-        } catch (final ClassNotFoundException e) {
-            throw new RuntimeException(e);
+        final @Nullable Class<?> clazz = findClass(className);
+        if (clazz == null) {
+            throw new RuntimeException(new ClassNotFoundException(className));
         }
+        return clazz;
     }
 
     public static @Nullable Class<?> findClass(final @NonNull String className) {
-        try {
-            return Class.forName(className);
-        } catch (final ClassNotFoundException e) {
-            return null;
+        LookupKind.CLASS.requests.increment();
+        @Nullable Optional<Class<?>> clazz = CLASSES.get(className);
+        if (clazz == null) {
+            // Not computeIfAbsent, initializing the class may look up other classes
+            final long start = System.nanoTime();
+            try {
+                clazz = Optional.of(Class.forName(className));
+            } catch (final ClassNotFoundException e) {
+                clazz = Optional.empty();
+            } finally {
+                LookupKind.CLASS.resolved(start);
+            }
+            CLASSES.putIfAbsent(className, clazz);
         }
+        return clazz.orElse(null);
     }
 
     public static @NonNull Field needField(final @NonNull Class<?> holder, final @NonNull String name) throws RuntimeException {
-        try {
-            final Field field = holder.getDeclaredField(name);
-            field.setAccessible(true);
-            return field;
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+        final @Nullable Field field = member(holder, new MemberKey(LookupKind.FIELD, name), () -> {
+            final Field declaredField = holder.getDeclaredField(name);
+            declaredField.setAccessible(true);
+            return declaredField;
+        });
+        if (field == null) {
+            throw new RuntimeException(new NoSuchFieldException(holder.getName() + "#" + name));
         }
+        return field;
     }
 
     public static @Nullable Field findField(final @NonNull Class<?> holder, final @NonNull String name) throws RuntimeException {
@@ -173,11 +216,15 @@ public final class CraftBukkitReflection {
     }
 
     public static @NonNull Constructor<?> needConstructor(final @NonNull Class<?> holder, final @NonNull Class<?>... parameters) {
-        try {
-            return holder.getDeclaredConstructor(parameters);
-        } catch (final NoSuchMethodException ex) {
-            throw new RuntimeException(ex);
+        final @Nullable Constructor<?> constructor = member(
+                holder,
+                new MemberKey(LookupKind.CONSTRUCTOR, "<init>", parameters),
+                () -> holder.getDeclaredConstructor(parameters)
+        );
+        if (constructor == null) {
+            throw new RuntimeException(new NoSuchMethodException(holder.getName() + ".<init>" + Arrays.toString(parameters)));
         }
+        return constructor;
     }
 
     public static boolean classExists(final @NonNull String className) {
@@ -189,11 +236,7 @@ public final class CraftBukkitReflection {
             final @NonNull String name,
             final @NonNull Class<?>... params
     ) throws RuntimeException {
-        try {
-            return holder.getMethod(name, params);
-        } catch (final NoSuchMethodException e) {
-            return null;
-        }
+        return member(holder, new MemberKey(LookupKind.METHOD, name, params), () -> holder.getMethod(name, params));
     }
 
     public static @NonNull Method needMethod(
@@ -201,17 +244,216 @@ public final class CraftBukkitReflection {
             final @NonNull String name,
             final @NonNull Class<?>... params
     ) throws RuntimeException {
-        try {
-            return holder.getMethod(name, params);
-        } catch (final NoSuchMethodException e) {
-            throw new RuntimeException(e);
+        final @Nullable Method method = findMethod(holder, name, params);
+        if (method == null) {
+            throw new RuntimeException(new NoSuchMethodException(holder.getName() + "#" + name + Arrays.toString(params)));
         }
+        return method;
+    }
+
+    /**
+     * Returns a method handle for the public method, see {@link #needMethod(Class, String, Class[])}.
+     *
+     * @param holder class declaring or inheriting the method
+     * @param name   method name
+     * @param params parameter types
+     * @return the method handle
+     * @throws RuntimeException if the method does not exist
+     */
+    public static @NonNull MethodHandle needMethodHandle(
+            final @NonNull Class<?> holder,
+            final @NonNull String name,
+            final @NonNull Class<?>... params
+    ) throws RuntimeException {
+        final Method method = needMethod(holder, name, params);
+        return requireHandle(member(holder, new MemberKey(LookupKind.HANDLE, name, params), () -> unreflect(method)));
+    }
+
+    /**
+     * Returns a method handle reading the field, see {@link #needField(Class, String)}.
+     *
+     * @param holder class declaring the field
+     * @param name   field name
+     * @return the getter method handle
+     * @throws RuntimeException if the field does not exist
+     */
+    public static @NonNull MethodHandle needGetter(final @NonNull Class<?> holder, final @NonNull String name) throws RuntimeException {
+        final Field field = needField(holder, name);
+        return requireHandle(member(
+                holder,
+                new MemberKey(LookupKind.HANDLE, "get:" + name),
+                () -> MethodHandles.lookup().unreflectGetter(field)
+        ));
+    }
+
+    /**
+     * Returns a method handle writing the field, see {@link #needField(Class, String)}.
+     *
+     * @param holder class declaring the field
+     * @param name   field name
+     * @return the setter method handle
+     * @throws RuntimeException if the field does not exist
+     */
+    public static @NonNull MethodHandle needSetter(final @NonNull Class<?> holder, final @NonNull String name) throws RuntimeException {
+        final Field field = needField(holder, name);
+        return requireHandle(member(
+                holder,
+                new MemberKey(LookupKind.HANDLE, "set:" + name),
+                () -> MethodHandles.lookup().unreflectSetter(field)
+        ));
+    }
+
+    /**
+     * Returns a method handle invoking the constructor, see {@link #needConstructor(Class, Class[])}.
+     *
+     * @param holder     class declaring the constructor
+     * @param parameters parameter types
+     * @return the constructor method handle
+     * @throws RuntimeException if the constructor does not exist
+     */
+    public static @NonNull MethodHandle needConstructorHandle(
+            final @NonNull Class<?> holder,
+            final @NonNull Class<?>... parameters
+    ) throws RuntimeException {
+        final Constructor<?> constructor = needConstructor(holder, parameters);
+        return requireHandle(member(holder, new MemberKey(LookupKind.HANDLE, "<init>", parameters), () -> {
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        }));
+    }
+
+    /**
+     * Returns a method handle for the method, making it accessible first. Use for methods found by
+     * {@link #streamMethods(Class)}, and keep the handle in a (static) final field.
+     *
+     * @param method the method
+     * @return the method handle
+     * @throws IllegalAccessException if the method cannot be made accessible
+     */
+    public static @NonNull MethodHandle unreflect(final @NonNull Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
     }
 
     public static Stream<Method> streamMethods(final @NonNull Class<?> clazz) {
-        return Arrays.stream(clazz.getDeclaredMethods());
+        LookupKind.SCAN.requests.increment();
+        return Arrays.stream(DECLARED_METHODS.get(clazz));
+    }
+
+    /**
+     * Returns a summary of the reflective lookups made so far and the time spent resolving them.
+     *
+     * <p>Members are resolved on first use, so this is meant to be requested on demand once the parsers in question
+     * have been used, for example from a debug command or a test, when investigating the cost of the reflection.</p>
+     *
+     * @return the report
+     */
+    public static @NonNull String reflectionReport() {
+        final StringBuilder report = new StringBuilder("Reflective lookups:");
+        long totalNanos = 0;
+        for (final LookupKind kind : LookupKind.values()) {
+            final long nanos = kind.nanos.sum();
+            totalNanos += nanos;
+            report.append(String.format(
+                    Locale.ROOT,
+                    " %s %d requested, %d resolved in %.2f ms;",
+                    kind.name().toLowerCase(Locale.ROOT),
+                    kind.requests.sum(),
+                    kind.resolved.sum(),
+                    nanos / (double) TimeUnit.MILLISECONDS.toNanos(1)
+            ));
+        }
+        return report.append(String.format(
+                Locale.ROOT,
+                " total %.2f ms",
+                totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1)
+        )).toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> @Nullable T member(
+            final @NonNull Class<?> holder,
+            final @NonNull MemberKey key,
+            final @NonNull Lookup<T> lookup
+    ) {
+        key.kind.requests.increment();
+        final Map<MemberKey, Optional<Object>> members = MEMBERS.get(holder);
+        @Nullable Optional<Object> member = members.get(key);
+        if (member == null) {
+            final long start = System.nanoTime();
+            try {
+                member = Optional.of(lookup.lookup());
+            } catch (final ReflectiveOperationException e) {
+                member = Optional.empty();
+            } finally {
+                key.kind.resolved(start);
+            }
+            members.putIfAbsent(key, member);
+        }
+        return (T) member.orElse(null);
+    }
+
+    private static @NonNull MethodHandle requireHandle(final @Nullable MethodHandle handle) {
+        if (handle == null) {
+            throw new RuntimeException(new IllegalAccessException("Could not create method handle"));
+        }
+        return handle;
     }
 
     private CraftBukkitReflection() {
     }
+
+    @FunctionalInterface
+    private interface Lookup<T> {
+
+        T lookup() throws ReflectiveOperationException;
+    }
+
+    private enum LookupKind {
+        CLASS,
+        FIELD,
+        METHOD,
+        CONSTRUCTOR,
+        HANDLE,
+        SCAN;
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder resolved = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void resolved(final long start) {
+            this.resolved.increment();
+            this.nanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static final class MemberKey {
+
+        private final LookupKind kind;
+        private final String name;
+        private final Class<?>[] parameters;
+
+        private MemberKey(final @NonNull LookupKind kind, final @NonNull String name, final @NonNull Class<?>... parameters) {
+            this.kind = kind;
+            this.name = name;
+            this.parameters = parameters.clone();
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof MemberKey)) {
+                return false;
+            }
+            final MemberKey other = (MemberKey) object;
+            return this.kind == other.kind && this.name.equals(other.name) && Arrays.equals(this.parameters, other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * this.kind.hashCode() + this.name.hashCode()) + Arrays.hashCode(this.parameters);
+        }
+    }
 }
@@ -0,0 +1,151 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.apiguardian.api.API;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Index of the registered enchantments by key, both namespaced and, for the {@code minecraft} namespace, on its own.
+ * Built on first use and {@link #invalidate() invalidated} when the registries are reloaded, which also picks up
+ * data driven enchantments. Enchantments registered in between are {@link #add(Enchantment) added} once found.
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class EnchantmentIndex {
+
+    private static volatile @Nullable EnchantmentIndex index;
+
+    private final Map<String, Enchantment> byKey;
+    private final String[] suggestions;
+    private final List<String> suggestionList;
+    private final String[] keys;
+    private final List<String> keyList;
+
+    @SuppressWarnings("deprecation")
+    private EnchantmentIndex(final @NonNull Collection<@NonNull Enchantment> indexed) {
+        final Enchantment[] enchantments = indexed.toArray(new Enchantment[0]);
+        this.byKey = new HashMap<>(enchantments.length * 4);
+        final List<String> suggestions = new ArrayList<>(enchantments.length);
+        final String[] keys = new String[enchantments.length];
+        for (int i = 0; i < enchantments.length; i++) {
+            final NamespacedKey key = enchantments[i].getKey();
+            keys[i] = key.toString();
+            this.byKey.put(keys[i], enchantments[i]);
+            if (key.getNamespace().equals(NamespacedKey.MINECRAFT)) {
+                this.byKey.put(key.getKey(), enchantments[i]);
+                suggestions.add(key.getKey());
+            } else {
+                suggestions.add(keys[i]);
+            }
+        }
+        Arrays.sort(keys);
+        this.keys = keys;
+        this.keyList = Collections.unmodifiableList(Arrays.asList(keys));
+        this.suggestions = suggestions.toArray(new String[0]);
+        Arrays.sort(this.suggestions);
+        this.suggestionList = Collections.unmodifiableList(Arrays.asList(this.suggestions));
+    }
+
+    /**
+     * Returns the index, building it if needed.
+     *
+     * @return the index
+     */
+    public static @NonNull EnchantmentIndex get() {
+        EnchantmentIndex index = EnchantmentIndex.index;
+        if (index == null) {
+            index = new EnchantmentIndex(Arrays.asList(Enchantment.values()));
+            EnchantmentIndex.index = index;
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the index with an enchantment that was registered after it was built, unless it was added already.
+     * The enchantment is kept until the index is {@link #invalidate() invalidated}, even if the registry does not
+     * list it yet.
+     *
+     * @param enchantment enchantment
+     */
+    public static void add(final @NonNull Enchantment enchantment) {
+        synchronized (EnchantmentIndex.class) {
+            final EnchantmentIndex current = get();
+            if (current.byKey.containsKey(enchantment.getKey().toString())) {
+                return;
+            }
+            final Set<Enchantment> enchantments = new LinkedHashSet<>(Arrays.asList(Enchantment.values()));
+            enchantments.addAll(current.byKey.values());
+            enchantments.add(enchantment);
+            index = new EnchantmentIndex(enchantments);
+        }
+    }
+
+    /**
+     * Drops the index, so that it is rebuilt from the current registry on next use.
+     */
+    public static void invalidate() {
+        index = null;
+    }
+
+    /**
+     * Returns the enchantment with the given key, which may omit the {@code minecraft} namespace. Keys are matched
+     * exactly, as namespaced keys are lower case.
+     *
+     * @param key key
+     * @return the enchantment, or {@code null}
+     */
+    public @Nullable Enchantment enchantment(final @NonNull String key) {
+        return this.byKey.get(key);
+    }
+
+    /**
+     * Returns the keys starting with the given prefix, ignoring case, sorted. Keys in the {@code minecraft} namespace
+     * are returned without it, unless the prefix contains a namespace.
+     *
+     * @param prefix key prefix
+     * @return the keys
+     */
+    public @NonNull List<@NonNull String> suggestions(final @NonNull String prefix) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        if (lowerPrefix.indexOf(':') != -1) {
+            return PrefixSearch.matching(this.keys, this.keyList, lowerPrefix);
+        }
+        return PrefixSearch.matching(this.suggestions, this.suggestionList, lowerPrefix);
+    }
+}
@@ -0,0 +1,173 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Immutable prefix trie over a set of keys, answering which keys start with a prefix by walking the prefix only.
+ *
+ * <p>The keys are kept sorted, and every node stores the range of keys below it, so matches are returned as a view
+ * without visiting them. Nodes live in parallel arrays, siblings are linked in ascending order.</p>
+ *
+ * <p>Tries built from registries should be rebuilt once {@link #stale()}, which they become when
+ * {@link #invalidateAll()} is called on registry reloads.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class KeyTrie {
+
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final int generation;
+    private final List<String> keys;
+    private final char[] chars;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] from;
+    private final int[] to;
+
+    private KeyTrie(
+            final int generation,
+            final @NonNull List<@NonNull String> keys,
+            final char @NonNull [] chars,
+            final int @NonNull [] firstChild,
+            final int @NonNull [] nextSibling,
+            final int @NonNull [] from,
+            final int @NonNull [] to
+    ) {
+        this.generation = generation;
+        this.keys = keys;
+        this.chars = chars;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Builds a trie over the given keys.
+     *
+     * @param keys keys, duplicates are ignored
+     * @return the trie
+     */
+    public static @NonNull KeyTrie of(final @NonNull Collection<@NonNull String> keys) {
+        final int generation = GENERATION.get();
+        final String[] sorted = keys.stream().distinct().sorted().toArray(String[]::new);
+        int capacity = 1;
+        for (final String key : sorted) {
+            capacity += key.length();
+        }
+        final char[] chars = new char[capacity];
+        final int[] firstChild = new int[capacity];
+        final int[] nextSibling = new int[capacity];
+        final int[] lastChild = new int[capacity];
+        final int[] from = new int[capacity];
+        final int[] to = new int[capacity];
+        Arrays.fill(firstChild, -1);
+        Arrays.fill(nextSibling, -1);
+        Arrays.fill(lastChild, -1);
+        to[0] = sorted.length;
+
+        int nodes = 1;
+        for (int i = 0; i < sorted.length; i++) {
+            int node = 0;
+            for (int j = 0; j < sorted[i].length(); j++) {
+                final char c = sorted[i].charAt(j);
+                // The keys are sorted, so a child for the character can only be the last one added
+                final int last = lastChild[node];
+                if (last != -1 && chars[last] == c) {
+                    node = last;
+                } else {
+                    final int child = nodes++;
+                    chars[child] = c;
+                    from[child] = i;
+                    if (last == -1) {
+                        firstChild[node] = child;
+                    } else {
+                        nextSibling[last] = child;
+                    }
+                    lastChild[node] = child;
+                    node = child;
+                }
+                to[node] = i + 1;
+            }
+        }
+
+        return new KeyTrie(
+                generation,
+                Collections.unmodifiableList(Arrays.asList(sorted)),
+                Arrays.copyOf(chars, nodes),
+                Arrays.copyOf(firstChild, nodes),
+                Arrays.copyOf(nextSibling, nodes),
+                Arrays.copyOf(from, nodes),
+                Arrays.copyOf(to, nodes)
+        );
+    }
+
+    /**
+     * Marks all tries built so far as {@link #stale() stale}.
+     */
+    public static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Returns whether {@link #invalidateAll()} was called since this trie was built.
+     *
+     * @return whether the trie is stale
+     */
+    public boolean stale() {
+        return this.generation != GENERATION.get();
+    }
+
+    /**
+     * Returns the keys starting with the given prefix.
+     *
+     * @param prefix prefix
+     * @return the sorted matching keys
+     */
+    public @NonNull List<@NonNull String> matching(final @NonNull String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            int child = this.firstChild[node];
+            while (child != -1 && this.chars[child] < c) {
+                child = this.nextSibling[child];
+            }
+            if (child == -1 || this.chars[child] != c) {
+                return Collections.emptyList();
+            }
+            node = child;
+        }
+        return this.keys.subList(this.from[node], this.to[node]);
+    }
+}
@@ -32,6 +32,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -46,6 +47,7 @@ public final class MinecraftArgumentTypes {
     }
 
     private static final ArgumentTypeGetter ARGUMENT_TYPE_GETTER;
+    private static final Map<NamespacedKey, Class<? extends ArgumentType<?>>> CLASSES_BY_KEY = new ConcurrentHashMap<>();
 
     static {
         if (CraftBukkitReflection.classExists("org.bukkit.entity.Warden")) {
@@ -65,7 +67,14 @@ public final class MinecraftArgumentTypes {
     public static Class<? extends ArgumentType<?>> getClassByKey(
             final @NonNull NamespacedKey key
     ) throws IllegalArgumentException {
-        return ARGUMENT_TYPE_GETTER.getClassByKey(key);
+        // Argument types are only registered during bootstrap, resolve each one once
+        final Class<? extends ArgumentType<?>> cached = CLASSES_BY_KEY.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Class<? extends ArgumentType<?>> argumentTypeClass = ARGUMENT_TYPE_GETTER.getClassByKey(key);
+        CLASSES_BY_KEY.putIfAbsent(key, argumentTypeClass);
+        return argumentTypeClass;
     }
 
     private interface ArgumentTypeGetter {
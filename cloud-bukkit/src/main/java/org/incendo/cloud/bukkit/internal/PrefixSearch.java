@@ -0,0 +1,87 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Prefix searches over sorted string arrays.
+ */
+final class PrefixSearch {
+
+    private PrefixSearch() {
+    }
+
+    /**
+     * Returns the elements of {@code sorted} starting with {@code prefix}.
+     *
+     * @param sorted sorted array
+     * @param view   unmodifiable list view of {@code sorted}
+     * @param prefix prefix
+     * @return the matching elements, as a view of {@code view}
+     */
+    static @NonNull List<@NonNull String> matching(
+            final @NonNull String @NonNull [] sorted,
+            final @NonNull List<@NonNull String> view,
+            final @NonNull String prefix
+    ) {
+        if (prefix.isEmpty()) {
+            return view;
+        }
+        final int from = lowerBound(sorted, prefix);
+        final int to = upperBound(sorted, prefix, from);
+        return from == to ? Collections.emptyList() : view.subList(from, to);
+    }
+
+    /**
+     * Returns the index of the first element of {@code sorted} that is not less than {@code prefix}.
+     *
+     * @param sorted sorted array
+     * @param prefix prefix
+     * @return the index
+     */
+    static int lowerBound(final @NonNull String @NonNull [] sorted, final @NonNull String prefix) {
+        final int index = Arrays.binarySearch(sorted, prefix);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * Returns the index after the last element starting with {@code prefix}, searching from {@code from}.
+     *
+     * @param sorted sorted array
+     * @param prefix prefix
+     * @param from   {@link #lowerBound(String[], String) lower bound} of the prefix
+     * @return the index
+     */
+    static int upperBound(final @NonNull String @NonNull [] sorted, final @NonNull String prefix, final int from) {
+        int to = from;
+        while (to < sorted.length && sorted[to].startsWith(prefix)) {
+            to++;
+        }
+        return to;
+    }
+}
@@ -24,6 +24,8 @@
 package org.incendo.cloud.bukkit.internal;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -32,12 +34,18 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * This is not API, and as such, may break, change, or be removed without any notice.
+ *
+ * <p>Registries resolved by name and the resource locations of successful lookups are cached, as the built-in
+ * registries do not change while the server is running.</p>
  */
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 public final class RegistryReflection {
@@ -55,6 +63,10 @@ public final class RegistryReflection {
             RESOURCE_LOCATION_CLASS,
             String.class
     );
+    private static final Map<String, Object> RESOURCE_LOCATIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Object> REGISTRIES = new ConcurrentHashMap<>();
+    private static final @Nullable MethodHandle REGISTRY_GET_HANDLE;
+    private static final @Nullable MethodHandle REGISTRY_GET_KEY_HANDLE;
 
     private RegistryReflection() {
     }
@@ -65,6 +77,8 @@ public final class RegistryReflection {
             REGISTRY_REGISTRY = null;
             REGISTRY_GET = null;
             REGISTRY_KEY = null;
+            REGISTRY_GET_HANDLE = null;
+            REGISTRY_GET_KEY_HANDLE = null;
         } else {
             registryClass = CraftBukkitReflection.firstNonNullOrThrow(
                     () -> "Registry",
@@ -84,6 +98,19 @@ public final class RegistryReflection {
                             && it.getReturnType().equals(Object.class))
                     .findFirst()
                     .orElseThrow(() -> new IllegalStateException("Could not find Registry#get(ResourceLocation)"));
+            final @Nullable Method getKey = Arrays.stream(registryClass.getDeclaredMethods())
+                    .filter(it -> it.getParameterCount() == 1
+                            && it.getParameterTypes()[0].equals(Object.class)
+                            && it.getReturnType().equals(resourceLocationClass))
+                    .findFirst()
+                    .orElse(null);
+            try {
+                // Adapted to generic signatures so that the handles can be called with invokeExact
+                REGISTRY_GET_HANDLE = generic(CraftBukkitReflection.unreflect(REGISTRY_GET));
+                REGISTRY_GET_KEY_HANDLE = getKey == null ? null : generic(CraftBukkitReflection.unreflect(getKey));
+            } catch (final IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
 
             final Class<?> resourceKeyClass = CraftBukkitReflection.needMCClass("resources.ResourceKey");
             REGISTRY_KEY = Arrays.stream(registryClass.getDeclaredMethods())
@@ -103,24 +130,75 @@ public final class RegistryReflection {
     }
 
     public static Object get(final Object registry, final String resourceLocation) {
-        Objects.requireNonNull(REGISTRY_GET, "REGISTRY_GET");
-        try {
-            return REGISTRY_GET.invoke(registry, RegistryReflection.createResourceLocation(resourceLocation));
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+        final @Nullable Object cached = RESOURCE_LOCATIONS.get(resourceLocation);
+        if (cached != null) {
+            return getByLocation(registry, cached);
         }
+        final Object location = newResourceLocation(resourceLocation);
+        final @Nullable Object value = getByLocation(registry, location);
+        if (value != null) {
+            // Only locations naming a registry entry are cached, so lookups made with user input cannot fill the cache
+            RESOURCE_LOCATIONS.putIfAbsent(resourceLocation, location);
+        }
+        return value;
     }
 
     public static Object registryByName(final String name) {
+        final @Nullable Object cached = REGISTRIES.get(name);
+        if (cached != null) {
+            return cached;
+        }
         Objects.requireNonNull(REGISTRY_REGISTRY, "REGISTRY_REGISTRY");
+        final Object registry;
         try {
-            return get(REGISTRY_REGISTRY.get(null), name);
+            registry = get(REGISTRY_REGISTRY.get(null), name);
         } catch (final ReflectiveOperationException e) {
             throw new RuntimeException(e);
         }
+        if (registry != null) {
+            REGISTRIES.putIfAbsent(name, registry);
+        }
+        return registry;
+    }
+
+    /**
+     * Calls the consumer with the key and value of every entry in the registry, letting callers build their own indexes
+     * without looking up each entry by name. The registry is iterated once, resolving the key of each value.
+     *
+     * @param registry registry to iterate
+     * @param consumer consumer of the entry key in {@code namespace:path} form and the entry value
+     */
+    public static void forEachEntry(final Object registry, final BiConsumer<String, Object> consumer) {
+        Objects.requireNonNull(REGISTRY_GET_KEY_HANDLE, "REGISTRY_GET_KEY");
+        for (final Object value : (Iterable<?>) registry) {
+            final Object location;
+            try {
+                location = (Object) REGISTRY_GET_KEY_HANDLE.invokeExact(registry, value);
+            } catch (final Throwable e) {
+                throw new RuntimeException(e);
+            }
+            if (location != null) {
+                consumer.accept(location.toString(), value);
+            }
+        }
     }
 
+    /**
+     * Returns the resource location for the given string. Resource locations are immutable, so the instances of
+     * locations that were successfully looked up before are shared.
+     *
+     * @param str resource location string
+     * @return the resource location
+     */
     public static Object createResourceLocation(final String str) {
+        final @Nullable Object cached = RESOURCE_LOCATIONS.get(str);
+        if (cached != null) {
+            return cached;
+        }
+        return newResourceLocation(str);
+    }
+
+    private static Object newResourceLocation(final String str) {
         try {
             return RESOURCE_LOCATION_CTR.newInstance(str);
         } catch (final ReflectiveOperationException e) {
@@ -128,6 +206,19 @@ public final class RegistryReflection {
         }
     }
 
+    private static Object getByLocation(final Object registry, final Object resourceLocation) {
+        Objects.requireNonNull(REGISTRY_GET_HANDLE, "REGISTRY_GET");
+        try {
+            return (Object) REGISTRY_GET_HANDLE.invokeExact(registry, resourceLocation);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static MethodHandle generic(final MethodHandle handle) {
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
+
     private static Field registryRegistryField(final Class<?> registryClass) {
         // Pre-1.19.3 we want the first Registry type field in Registry
         // 1.19.3+ we want the only static final Registry<? extends Registry<?>> from BuiltInRegistries
@@ -0,0 +1,94 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.bukkit.NamespacedKey;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Supplies a shared instance of a Minecraft argument type, which is created on first use and recreated once the
+ * {@link CommandBuildContextSupplier#commandBuildContext() command build context} it was created with is invalidated.
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SharedArgumentType implements Supplier<ArgumentType<Object>> {
+
+    private final NamespacedKey key;
+    private volatile @Nullable Instance instance;
+
+    /**
+     * Creates a new supplier for the argument type with the given key. The argument type must have a constructor without
+     * arguments or with a command build context as the only argument.
+     *
+     * @param key argument type key
+     */
+    public SharedArgumentType(final @NonNull NamespacedKey key) {
+        this.key = key;
+    }
+
+    @Override
+    public @NonNull ArgumentType<Object> get() {
+        final @Nullable Instance instance = this.instance;
+        if (instance != null
+                && (instance.context == null || instance.context == CommandBuildContextSupplier.commandBuildContext())) {
+            return instance.type;
+        }
+        final Instance created = this.createInstance();
+        this.instance = created;
+        return created.type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull Instance createInstance() {
+        final Constructor<?> ctr = MinecraftArgumentTypes.getClassByKey(this.key).getDeclaredConstructors()[0];
+        try {
+            if (ctr.getParameterCount() == 0) {
+                return new Instance(null, (ArgumentType<Object>) ctr.newInstance());
+            }
+            // 1.19+
+            final Object context = CommandBuildContextSupplier.commandBuildContext();
+            return new Instance(context, (ArgumentType<Object>) ctr.newInstance(context));
+        } catch (final ReflectiveOperationException ex) {
+            throw new RuntimeException("Failed to create argument type " + this.key, ex);
+        }
+    }
+
+
+    private static final class Instance {
+
+        private final @Nullable Object context;
+        private final ArgumentType<Object> type;
+
+        private Instance(final @Nullable Object context, final @NonNull ArgumentType<Object> type) {
+            this.context = context;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apiguardian.api.API;
+import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Index of the loaded worlds by lower case name and key, kept up to date through {@link WorldLoadEvent} and
+ * {@link WorldUnloadEvent} once {@link #track(Plugin) tracking} started. The events are listened to by the first
+ * tracking plugin, and by the next tracking plugin once that one is disabled. Until tracking started, or after all
+ * tracking plugins were disabled, lookups go through Bukkit.
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class WorldIndex {
+
+    private static final boolean KEYED;
+    private static final List<Plugin> TRACKING = new ArrayList<>();
+    private static volatile @Nullable Snapshot snapshot;
+
+    static {
+        final Class<?> keyed = CraftBukkitReflection.findClass("org.bukkit.Keyed");
+        KEYED = keyed != null && keyed.isAssignableFrom(World.class);
+    }
+
+    private WorldIndex() {
+    }
+
+    /**
+     * Starts indexing the loaded worlds, if no other plugin does already, and otherwise keeps indexing them once the
+     * plugins that started earlier are disabled.
+     *
+     * @param plugin plugin to register the listener with
+     */
+    public static void track(final @NonNull Plugin plugin) {
+        synchronized (WorldIndex.class) {
+            if (!TRACKING.contains(plugin)) {
+                TRACKING.add(plugin);
+            }
+            if (snapshot == null) {
+                listen(plugin);
+            }
+        }
+    }
+
+    /**
+     * Returns the world with the given name, ignoring case.
+     *
+     * @param name world name
+     * @return the world, or {@code null}
+     */
+    public static @Nullable World world(final @NonNull String name) {
+        final Snapshot snapshot = WorldIndex.snapshot;
+        if (snapshot == null) {
+            return Bukkit.getWorld(name);
+        }
+        return snapshot.byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the names of the worlds starting with the given prefix, ignoring case, sorted by name. The names of all
+     * worlds are returned if the worlds are not indexed.
+     *
+     * @param prefix name prefix
+     * @return the world names
+     */
+    public static @NonNull List<@NonNull String> names(final @NonNull String prefix) {
+        final Snapshot snapshot = WorldIndex.snapshot;
+        if (snapshot == null) {
+            return Bukkit.getWorlds().stream().map(World::getName).collect(Collectors.toList());
+        }
+        return PrefixSearch.matching(snapshot.lowerNames, snapshot.names, prefix.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns whether worlds are indexed by their keys, in which case {@link #worldByKey(String)} and
+     * {@link #keys(String, boolean)} may be used.
+     *
+     * @return whether keys are indexed
+     */
+    public static boolean keysIndexed() {
+        return KEYED && snapshot != null;
+    }
+
+    /**
+     * Returns the world with the given key. Keys without a namespace are in the {@code minecraft} namespace. Like
+     * {@link NamespacedKey#fromString(String)}, keys are not matched if they contain upper case characters.
+     *
+     * @param key world key
+     * @return the world, or {@code null} if there is none or {@link #keysIndexed() keys are not indexed}
+     */
+    public static @Nullable World worldByKey(final @NonNull String key) {
+        final Snapshot snapshot = WorldIndex.snapshot;
+        if (snapshot == null || snapshot.byKey == null) {
+            return null;
+        }
+        final int separator = key.indexOf(':');
+        if (separator == -1) {
+            return snapshot.byKey.get(NamespacedKey.MINECRAFT + ':' + key);
+        } else if (separator == 0) {
+            return snapshot.byKey.get(NamespacedKey.MINECRAFT + key);
+        }
+        return snapshot.byKey.get(key);
+    }
+
+    /**
+     * Returns the keys of the worlds starting with the given prefix, sorted by key.
+     *
+     * @param prefix          key prefix
+     * @param minecraftValues whether to also return the values of keys in the {@code minecraft} namespace on their own
+     * @return the world keys, or an empty list if {@link #keysIndexed() keys are not indexed}
+     */
+    public static @NonNull List<@NonNull String> keys(final @NonNull String prefix, final boolean minecraftValues) {
+        final Snapshot snapshot = WorldIndex.snapshot;
+        if (snapshot == null || snapshot.keys == null || snapshot.keyList == null
+                || snapshot.minecraftValues == null || snapshot.minecraftValueList == null) {
+            return Collections.emptyList();
+        }
+        final List<String> keys = PrefixSearch.matching(snapshot.keys, snapshot.keyList, prefix);
+        if (!minecraftValues) {
+            return keys;
+        }
+        final List<String> values = PrefixSearch.matching(snapshot.minecraftValues, snapshot.minecraftValueList, prefix);
+        final List<String> matching = new ArrayList<>(values.size() + keys.size());
+        matching.addAll(values);
+        matching.addAll(keys);
+        return matching;
+    }
+
+    private static void listen(final @NonNull Plugin plugin) {
+        plugin.getServer().getPluginManager().registerEvents(new IndexListener(plugin), plugin);
+        snapshot = new Snapshot(plugin.getServer().getWorlds(), null, null);
+    }
+
+    private static void update(final @Nullable World loaded, final @Nullable World unloaded) {
+        synchronized (WorldIndex.class) {
+            if (snapshot != null) {
+                snapshot = new Snapshot(Bukkit.getWorlds(), loaded, unloaded);
+            }
+        }
+    }
+
+
+    private static final class Snapshot {
+
+        private final Map<String, World> byName;
+        private final String[] lowerNames;
+        private final List<String> names;
+        private final @Nullable Map<String, World> byKey;
+        private final @NonNull String @Nullable [] keys;
+        private final @Nullable List<String> keyList;
+        private final @NonNull String @Nullable [] minecraftValues;
+        private final @Nullable List<String> minecraftValueList;
+
+        private Snapshot(
+                final @NonNull Collection<@NonNull World> worlds,
+                final @Nullable World loaded,
+                final @Nullable World unloaded
+        ) {
+            final List<World> indexed = new ArrayList<>(worlds.size() + 1);
+            for (final World world : worlds) {
+                if (world != unloaded && world != loaded) {
+                    indexed.add(world);
+                }
+            }
+            if (loaded != null) {
+                indexed.add(loaded);
+            }
+            final int size = indexed.size();
+
+            this.byName = new HashMap<>(size * 2);
+            final String[] names = new String[size];
+            for (int i = 0; i < size; i++) {
+                final World world = indexed.get(i);
+                names[i] = world.getName();
+                this.byName.put(names[i].toLowerCase(Locale.ROOT), world);
+            }
+            // Sorted by lower case name, so the names line up with the lower case names searched through
+            Arrays.sort(names, Comparator.comparing(name -> name.toLowerCase(Locale.ROOT)));
+            this.lowerNames = new String[size];
+            for (int i = 0; i < size; i++) {
+                this.lowerNames[i] = names[i].toLowerCase(Locale.ROOT);
+            }
+            this.names = Collections.unmodifiableList(Arrays.asList(names));
+
+            if (!KEYED) {
+                this.byKey = null;
+                this.keys = null;
+                this.keyList = null;
+                this.minecraftValues = null;
+                this.minecraftValueList = null;
+                return;
+            }
+            this.byKey = new HashMap<>(size * 2);
+            final String[] keys = new String[size];
+            final List<String> minecraftValues = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                final World world = indexed.get(i);
+                final NamespacedKey key = ((Keyed) world).getKey();
+                keys[i] = key.toString();
+                this.byKey.put(keys[i], world);
+                if (key.getNamespace().equals(NamespacedKey.MINECRAFT)) {
+                    minecraftValues.add(key.getKey());
+                }
+            }
+            Arrays.sort(keys);
+            this.keys = keys;
+            this.keyList = Collections.unmodifiableList(Arrays.asList(keys));
+            final String[] values = minecraftValues.toArray(new String[0]);
+            Arrays.sort(values);
+            this.minecraftValues = values;
+            this.minecraftValueList = Collections.unmodifiableList(Arrays.asList(values));
+        }
+    }
+
+
+    static final class IndexListener implements Listener {
+
+        private final Plugin plugin;
+
+        private IndexListener(final @NonNull Plugin plugin) {
+            this.plugin = plugin;
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        void onWorldLoad(final @NonNull WorldLoadEvent event) {
+            update(event.getWorld(), null);
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        void onWorldUnload(final @NonNull WorldUnloadEvent event) {
+            // Called before the world is removed
+            update(null, event.getWorld());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        void onPluginDisable(final @NonNull PluginDisableEvent event) {
+            synchronized (WorldIndex.class) {
+                TRACKING.remove(event.getPlugin());
+                if (!event.getPlugin().equals(this.plugin)) {
+                    return;
+                }
+                snapshot = null;
+                // Hand the listener over, the listener of the disabled plugin is unregistered after this event
+                if (!TRACKING.isEmpty()) {
+                    listen(TRACKING.get(0));
+                }
+            }
+        }
+    }
+}
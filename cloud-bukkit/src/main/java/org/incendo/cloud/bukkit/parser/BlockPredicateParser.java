@@ -29,6 +29,7 @@ import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
 import org.bukkit.block.Block;
@@ -37,10 +38,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.BlockPredicate;
-import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
-import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
 import org.incendo.cloud.bukkit.internal.RegistryReflection;
+import org.incendo.cloud.bukkit.internal.SharedArgumentType;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
@@ -62,83 +62,9 @@ import org.incendo.cloud.suggestion.SuggestionProvider;
  */
 public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgumentParser<C, BlockPredicate> {
 
-    private static final Class<?> TAG_CONTAINER_CLASS;
-
-    static {
-        Class<?> tagContainerClass;
-        if (CraftBukkitReflection.MAJOR_REVISION > 12 && CraftBukkitReflection.MAJOR_REVISION < 16) {
-            tagContainerClass = CraftBukkitReflection.needNMSClass("TagRegistry");
-        } else {
-            tagContainerClass = CraftBukkitReflection.firstNonNullOrThrow(
-                    () -> "tagContainerClass",
-                    CraftBukkitReflection.findNMSClass("ITagRegistry"),
-                    CraftBukkitReflection.findMCClass("tags.ITagRegistry"),
-                    CraftBukkitReflection.findMCClass("tags.TagContainer"),
-                    CraftBukkitReflection.findMCClass("core.IRegistry"),
-                    CraftBukkitReflection.findMCClass("core.Registry")
-            );
-        }
-        TAG_CONTAINER_CLASS = tagContainerClass;
-    }
-
-    private static final Class<?> CRAFT_WORLD_CLASS = CraftBukkitReflection.needOBCClass("CraftWorld");
-    private static final Class<?> MINECRAFT_SERVER_CLASS = CraftBukkitReflection.needNMSClassOrElse(
-            "MinecraftServer",
-            "net.minecraft.server.MinecraftServer"
-    );
-    private static final Class<?> COMMAND_LISTENER_WRAPPER_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
-            () -> "Couldn't find CommandSourceStack class",
-            CraftBukkitReflection.findNMSClass("CommandListenerWrapper"),
-            CraftBukkitReflection.findMCClass("commands.CommandListenerWrapper"),
-            CraftBukkitReflection.findMCClass("commands.CommandSourceStack")
-    );
-    private static final Class<?> ARGUMENT_BLOCK_PREDICATE_CLASS =
-            MinecraftArgumentTypes.getClassByKey(NamespacedKey.minecraft("block_predicate"));
-    private static final Class<?> ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
-            () -> "Couldn't find BlockPredicateArgument$Result class",
-            CraftBukkitReflection.findNMSClass("ArgumentBlockPredicate$b"),
-            CraftBukkitReflection.findMCClass("commands.arguments.blocks.ArgumentBlockPredicate$b"),
-            CraftBukkitReflection.findMCClass("commands.arguments.blocks.BlockPredicateArgument$Result")
-    );
-    private static final Class<?> SHAPE_DETECTOR_BLOCK_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
-            () -> "Couldn't find BlockInWorld class",
-            CraftBukkitReflection.findNMSClass("ShapeDetectorBlock"),
-            CraftBukkitReflection.findMCClass("world.level.block.state.pattern.ShapeDetectorBlock"),
-            CraftBukkitReflection.findMCClass("world.level.block.state.pattern.BlockInWorld")
-    );
-    private static final Class<?> LEVEL_READER_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
-            () -> "Couldn't find LevelReader class",
-            CraftBukkitReflection.findNMSClass("IWorldReader"),
-            CraftBukkitReflection.findMCClass("world.level.IWorldReader"),
-            CraftBukkitReflection.findMCClass("world.level.LevelReader")
-    );
-    private static final Class<?> BLOCK_POSITION_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
-            () -> "Couldn't find BlockPos class",
-            CraftBukkitReflection.findNMSClass("BlockPosition"),
-            CraftBukkitReflection.findMCClass("core.BlockPosition"),
-            CraftBukkitReflection.findMCClass("core.BlockPos")
-    );
-    private static final Constructor<?> BLOCK_POSITION_CTR =
-            CraftBukkitReflection.needConstructor(BLOCK_POSITION_CLASS, int.class, int.class, int.class);
-    private static final Constructor<?> SHAPE_DETECTOR_BLOCK_CTR = CraftBukkitReflection
-            .needConstructor(SHAPE_DETECTOR_BLOCK_CLASS, LEVEL_READER_CLASS, BLOCK_POSITION_CLASS, boolean.class);
-    private static final Method GET_HANDLE_METHOD = CraftBukkitReflection.needMethod(CRAFT_WORLD_CLASS, "getHandle");
-    private static final @Nullable Method CREATE_PREDICATE_METHOD = CraftBukkitReflection.firstNonNullOrNull(
-            CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "create", TAG_CONTAINER_CLASS),
-            CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "a", TAG_CONTAINER_CLASS)
-    );
-    private static final Method GET_SERVER_METHOD = CraftBukkitReflection.streamMethods(COMMAND_LISTENER_WRAPPER_CLASS)
-            .filter(it -> it.getReturnType().equals(MINECRAFT_SERVER_CLASS) && it.getParameterCount() == 0)
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("Could not find CommandSourceStack#getServer."));
-    private static final @Nullable Method GET_TAG_REGISTRY_METHOD = CraftBukkitReflection.firstNonNullOrNull(
-            CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTagRegistry"),
-            CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTags"),
-            CraftBukkitReflection.streamMethods(MINECRAFT_SERVER_CLASS)
-                    .filter(it -> it.getReturnType().equals(TAG_CONTAINER_CLASS) && it.getParameterCount() == 0)
-                    .findFirst()
-                    .orElse(null)
-    );
+    // Shared by all parser instances, created on first parse or suggestion
+    private static final Supplier<ArgumentType<Object>> ARGUMENT_TYPE =
+            new SharedArgumentType(NamespacedKey.minecraft("block_predicate"));
 
     /**
      * Creates a block predicate parser.
@@ -172,39 +98,27 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
      * @since 1.5.0
      */
     public BlockPredicateParser() {
-        try {
-            this.parser = this.createParser();
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException("Failed to initialize BlockPredicate parser.", ex);
-        }
+        this.parser = this.createParser();
     }
 
     @SuppressWarnings("unchecked")
-    private ArgumentParser<C, BlockPredicate> createParser() throws ReflectiveOperationException {
-        final Constructor<?> ctr = ARGUMENT_BLOCK_PREDICATE_CLASS.getDeclaredConstructors()[0];
-        final ArgumentType<Object> inst;
-        if (ctr.getParameterCount() == 0) {
-            inst = (ArgumentType<Object>) ctr.newInstance();
-        } else {
-            // 1.19+
-            inst = (ArgumentType<Object>) ctr.newInstance(CommandBuildContextSupplier.commandBuildContext());
-        }
-        return new WrappedBrigadierParser<C, Object>(inst).flatMapSuccess((ctx, result) -> {
+    private ArgumentParser<C, BlockPredicate> createParser() {
+        return new WrappedBrigadierParser<C, Object>(ARGUMENT_TYPE).flatMapSuccess((ctx, result) -> {
             if (result instanceof Predicate) {
                 // 1.19+
                 return ArgumentParseResult.successFuture(new BlockPredicateImpl((Predicate<Object>) result));
             }
-            final Object commandSourceStack = ctx.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+            final Object commandSourceStack = WrappedBrigadierParser.nativeSender(ctx);
             try {
-                final Object server = GET_SERVER_METHOD.invoke(commandSourceStack);
+                final Object server = Reflection.GET_SERVER_METHOD.invoke(commandSourceStack);
                 final Object obj;
-                if (GET_TAG_REGISTRY_METHOD != null) {
-                    obj = GET_TAG_REGISTRY_METHOD.invoke(server);
+                if (Reflection.GET_TAG_REGISTRY_METHOD != null) {
+                    obj = Reflection.GET_TAG_REGISTRY_METHOD.invoke(server);
                 } else {
                     obj = RegistryReflection.registryByName("block");
                 }
-                Objects.requireNonNull(CREATE_PREDICATE_METHOD, "create on BlockPredicateArgument$Result");
-                final Predicate<Object> predicate = (Predicate<Object>) CREATE_PREDICATE_METHOD.invoke(result, obj);
+                Objects.requireNonNull(Reflection.CREATE_PREDICATE_METHOD, "create on BlockPredicateArgument$Result");
+                final Predicate<Object> predicate = (Predicate<Object>) Reflection.CREATE_PREDICATE_METHOD.invoke(result, obj);
                 return ArgumentParseResult.successFuture(new BlockPredicateImpl(predicate));
             } catch (final ReflectiveOperationException ex) {
                 throw new RuntimeException(ex);
@@ -247,9 +161,9 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
 
         private boolean testImpl(final @NonNull Block block, final boolean loadChunks) {
             try {
-                final Object blockInWorld = SHAPE_DETECTOR_BLOCK_CTR.newInstance(
-                        GET_HANDLE_METHOD.invoke(block.getWorld()),
-                        BLOCK_POSITION_CTR.newInstance(block.getX(), block.getY(), block.getZ()),
+                final Object blockInWorld = Reflection.SHAPE_DETECTOR_BLOCK_CTR.newInstance(
+                        Reflection.GET_HANDLE_METHOD.invoke(block.getWorld()),
+                        Reflection.BLOCK_POSITION_CTR.newInstance(block.getX(), block.getY(), block.getZ()),
                         loadChunks
                 );
                 return this.predicate.test(blockInWorld);
@@ -278,4 +192,88 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
             };
         }
     }
+
+
+    // Initialized on first parse, keeping construction and registration of the parser cheap
+    private static final class Reflection {
+
+        private static final Class<?> TAG_CONTAINER_CLASS;
+
+        static {
+            Class<?> tagContainerClass;
+            if (CraftBukkitReflection.MAJOR_REVISION > 12 && CraftBukkitReflection.MAJOR_REVISION < 16) {
+                tagContainerClass = CraftBukkitReflection.needNMSClass("TagRegistry");
+            } else {
+                tagContainerClass = CraftBukkitReflection.firstNonNullOrThrow(
+                        () -> "tagContainerClass",
+                        CraftBukkitReflection.findNMSClass("ITagRegistry"),
+                        CraftBukkitReflection.findMCClass("tags.ITagRegistry"),
+                        CraftBukkitReflection.findMCClass("tags.TagContainer"),
+                        CraftBukkitReflection.findMCClass("core.IRegistry"),
+                        CraftBukkitReflection.findMCClass("core.Registry")
+                );
+            }
+            TAG_CONTAINER_CLASS = tagContainerClass;
+        }
+
+        private static final Class<?> CRAFT_WORLD_CLASS = CraftBukkitReflection.needOBCClass("CraftWorld");
+        private static final Class<?> MINECRAFT_SERVER_CLASS = CraftBukkitReflection.needNMSClassOrElse(
+                "MinecraftServer",
+                "net.minecraft.server.MinecraftServer"
+        );
+        private static final Class<?> COMMAND_LISTENER_WRAPPER_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
+                () -> "Couldn't find CommandSourceStack class",
+                CraftBukkitReflection.findNMSClass("CommandListenerWrapper"),
+                CraftBukkitReflection.findMCClass("commands.CommandListenerWrapper"),
+                CraftBukkitReflection.findMCClass("commands.CommandSourceStack")
+        );
+        private static final Class<?> ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
+                () -> "Couldn't find BlockPredicateArgument$Result class",
+                CraftBukkitReflection.findNMSClass("ArgumentBlockPredicate$b"),
+                CraftBukkitReflection.findMCClass("commands.arguments.blocks.ArgumentBlockPredicate$b"),
+                CraftBukkitReflection.findMCClass("commands.arguments.blocks.BlockPredicateArgument$Result")
+        );
+        private static final Class<?> SHAPE_DETECTOR_BLOCK_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
+                () -> "Couldn't find BlockInWorld class",
+                CraftBukkitReflection.findNMSClass("ShapeDetectorBlock"),
+                CraftBukkitReflection.findMCClass("world.level.block.state.pattern.ShapeDetectorBlock"),
+                CraftBukkitReflection.findMCClass("world.level.block.state.pattern.BlockInWorld")
+        );
+        private static final Class<?> LEVEL_READER_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
+                () -> "Couldn't find LevelReader class",
+                CraftBukkitReflection.findNMSClass("IWorldReader"),
+                CraftBukkitReflection.findMCClass("world.level.IWorldReader"),
+                CraftBukkitReflection.findMCClass("world.level.LevelReader")
+        );
+        private static final Class<?> BLOCK_POSITION_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
+                () -> "Couldn't find BlockPos class",
+                CraftBukkitReflection.findNMSClass("BlockPosition"),
+                CraftBukkitReflection.findMCClass("core.BlockPosition"),
+                CraftBukkitReflection.findMCClass("core.BlockPos")
+        );
+        private static final Constructor<?> BLOCK_POSITION_CTR =
+                CraftBukkitReflection.needConstructor(BLOCK_POSITION_CLASS, int.class, int.class, int.class);
+        private static final Constructor<?> SHAPE_DETECTOR_BLOCK_CTR = CraftBukkitReflection
+                .needConstructor(SHAPE_DETECTOR_BLOCK_CLASS, LEVEL_READER_CLASS, BLOCK_POSITION_CLASS, boolean.class);
+        private static final Method GET_HANDLE_METHOD = CraftBukkitReflection.needMethod(CRAFT_WORLD_CLASS, "getHandle");
+        private static final @Nullable Method CREATE_PREDICATE_METHOD = CraftBukkitReflection.firstNonNullOrNull(
+                CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "create", TAG_CONTAINER_CLASS),
+                CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "a", TAG_CONTAINER_CLASS)
+        );
+        private static final Method GET_SERVER_METHOD = CraftBukkitReflection.streamMethods(COMMAND_LISTENER_WRAPPER_CLASS)
+                .filter(it -> it.getReturnType().equals(MINECRAFT_SERVER_CLASS) && it.getParameterCount() == 0)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Could not find CommandSourceStack#getServer."));
+        private static final @Nullable Method GET_TAG_REGISTRY_METHOD = CraftBukkitReflection.firstNonNullOrNull(
+                CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTagRegistry"),
+                CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTags"),
+                CraftBukkitReflection.streamMethods(MINECRAFT_SERVER_CLASS)
+                        .filter(it -> it.getReturnType().equals(TAG_CONTAINER_CLASS) && it.getParameterCount() == 0)
+                        .findFirst()
+                        .orElse(null)
+        );
+
+        private Reflection() {
+        }
+    }
 }
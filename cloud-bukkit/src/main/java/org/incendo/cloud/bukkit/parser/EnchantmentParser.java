@@ -23,13 +23,12 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
-import java.util.ArrayList;
-import java.util.List;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
+import org.incendo.cloud.bukkit.internal.EnchantmentIndex;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -73,14 +72,20 @@ public final class EnchantmentParser<C> implements ArgumentParser<C, Enchantment
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        final String input = commandInput.peekString();
+        final String input = commandInput.readString();
+        final Enchantment indexed = EnchantmentIndex.get().enchantment(input);
+        if (indexed != null) {
+            return ArgumentParseResult.success(indexed);
+        }
 
+        // Enchantments may have been registered since the index was built
         final NamespacedKey key;
         try {
-            if (input.contains(":")) {
-                key = new NamespacedKey(commandInput.readUntilAndSkip(':'), commandInput.readString());
+            final int separator = input.indexOf(':');
+            if (separator != -1) {
+                key = new NamespacedKey(input.substring(0, separator), input.substring(separator + 1));
             } else {
-                key = NamespacedKey.minecraft(commandInput.readString());
+                key = NamespacedKey.minecraft(input);
             }
         } catch (final Exception ex) {
             return ArgumentParseResult.failure(new EnchantmentParseException(input, commandContext));
@@ -90,21 +95,14 @@ public final class EnchantmentParser<C> implements ArgumentParser<C, Enchantment
         if (enchantment == null) {
             return ArgumentParseResult.failure(new EnchantmentParseException(input, commandContext));
         }
+        EnchantmentIndex.add(enchantment);
         return ArgumentParseResult.success(enchantment);
     }
 
     @Override
     public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
                                                                 final @NonNull CommandInput input) {
-        final List<String> completions = new ArrayList<>();
-        for (Enchantment value : Enchantment.values()) {
-            if (value.getKey().getNamespace().equals(NamespacedKey.MINECRAFT)) {
-                completions.add(value.getKey().getKey());
-            } else {
-                completions.add(value.getKey().toString());
-            }
-        }
-        return completions;
+        return EnchantmentIndex.get().suggestions(input.peekString());
     }
 
 
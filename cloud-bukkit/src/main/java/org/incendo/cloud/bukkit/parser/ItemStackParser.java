@@ -25,26 +25,27 @@ package org.incendo.cloud.bukkit.parser;
 
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.ProtoItemStack;
-import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
-import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
+import org.incendo.cloud.bukkit.internal.SharedArgumentType;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
@@ -63,6 +64,10 @@ import static java.util.Objects.requireNonNull;
  * compatibility through {@link BukkitCommandManager#registerBrigadier()} will allow client side validation and
  * suggestions to be utilized.</p>
  *
+ * <p>On Minecraft 1.13 and newer, {@link ProtoItemStack#createItemStack(int, boolean)} wraps the created server item
+ * stack with {@code CraftItemStack#asCraftMirror}, so it returns a {@code CraftItemStack} instead of the plain
+ * {@link ItemStack} returned by {@code CraftItemStack#asBukkitCopy} before 2.0.0.</p>
+ *
  * @param <C> Command sender type
  * @since 1.5.0
  */
@@ -92,7 +97,7 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
         return CommandComponent.<C, ProtoItemStack>builder().parser(itemStackParser());
     }
 
-    private final ArgumentParser<C, ProtoItemStack> parser;
+    private volatile @MonotonicNonNull ArgumentParser<C, ProtoItemStack> parser;
 
     private static @Nullable Class<?> findItemInputClass() {
         final Class<?>[] classes = new Class<?>[]{
@@ -114,11 +119,6 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
      * @since 1.5.0
      */
     public ItemStackParser() {
-        if (findItemInputClass() != null) {
-            this.parser = new ModernParser<>();
-        } else {
-            this.parser = new LegacyParser<>();
-        }
     }
 
     @Override
@@ -126,12 +126,22 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        return this.parser.parseFuture(commandContext, commandInput);
+        return this.parser().parseFuture(commandContext, commandInput);
     }
 
     @Override
     public final @NonNull SuggestionProvider<C> suggestionProvider() {
-        return this.parser.suggestionProvider();
+        return this.parser().suggestionProvider();
+    }
+
+    private @NonNull ArgumentParser<C, ProtoItemStack> parser() {
+        // The parser is registered by every manager, resolve the NMS classes on first use only
+        ArgumentParser<C, ProtoItemStack> parser = this.parser;
+        if (parser == null) {
+            parser = findItemInputClass() != null ? new ModernParser<>() : new LegacyParser<>();
+            this.parser = parser;
+        }
+        return parser;
     }
 
 
@@ -143,8 +153,6 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
         );
         private static final Class<?> CRAFT_ITEM_STACK_CLASS =
                 CraftBukkitReflection.needOBCClass("inventory.CraftItemStack");
-        private static final Class<?> ARGUMENT_ITEM_STACK_CLASS =
-                MinecraftArgumentTypes.getClassByKey(NamespacedKey.minecraft("item_stack"));
         private static final Class<?> ITEM_INPUT_CLASS = requireNonNull(findItemInputClass(), "ItemInput class");
         private static final Class<?> NMS_ITEM_CLASS = CraftBukkitReflection.needNMSClassOrElse(
                 "Item",
@@ -154,13 +162,23 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
                 CraftBukkitReflection.needOBCClass("util.CraftMagicNumbers");
         private static final Method GET_MATERIAL_METHOD = CraftBukkitReflection
                 .needMethod(CRAFT_MAGIC_NUMBERS_CLASS, "getMaterial", NMS_ITEM_CLASS);
-        private static final Method CREATE_ITEM_STACK_METHOD = CraftBukkitReflection.firstNonNullOrThrow(
-                () -> "Couldn't find createItemStack method on ItemInput",
-                CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "a", int.class, boolean.class),
-                CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "createItemStack", int.class, boolean.class)
+        private static final MethodHandle CREATE_ITEM_STACK = handle(
+                CraftBukkitReflection.firstNonNullOrThrow(
+                        () -> "Couldn't find createItemStack method on ItemInput",
+                        CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "a", int.class, boolean.class),
+                        CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "createItemStack", int.class, boolean.class)
+                ),
+                MethodType.methodType(Object.class, Object.class, int.class, boolean.class)
+        );
+        // The created NMS stack is not shared, so it can be wrapped instead of copied
+        private static final MethodHandle AS_BUKKIT_STACK = handle(
+                CraftBukkitReflection.firstNonNullOrThrow(
+                        () -> "Couldn't find asCraftMirror or asBukkitCopy method on CraftItemStack",
+                        CraftBukkitReflection.findMethod(CRAFT_ITEM_STACK_CLASS, "asCraftMirror", NMS_ITEM_STACK_CLASS),
+                        CraftBukkitReflection.findMethod(CRAFT_ITEM_STACK_CLASS, "asBukkitCopy", NMS_ITEM_STACK_CLASS)
+                ),
+                MethodType.methodType(ItemStack.class, Object.class)
         );
-        private static final Method AS_BUKKIT_COPY_METHOD = CraftBukkitReflection
-                .needMethod(CRAFT_ITEM_STACK_CLASS, "asBukkitCopy", NMS_ITEM_STACK_CLASS);
         private static final Field ITEM_FIELD = CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find item field on ItemInput",
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "b"),
@@ -180,27 +198,17 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
                         CraftBukkitReflection.findMethod(HOLDER_CLASS, "a")
                 );
 
+        // Shared by all parser instances
+        private static final Supplier<ArgumentType<Object>> ARGUMENT_TYPE = new SharedArgumentType(NamespacedKey.minecraft("item_stack"));
+
         private final ArgumentParser<C, ProtoItemStack> parser;
 
         ModernParser() {
-            try {
-                this.parser = this.createParser();
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException("Failed to initialize modern ItemStack parser.", ex);
-            }
+            this.parser = this.createParser();
         }
 
-        @SuppressWarnings("unchecked")
-        private ArgumentParser<C, ProtoItemStack> createParser() throws ReflectiveOperationException {
-            final Constructor<?> ctr = ARGUMENT_ITEM_STACK_CLASS.getDeclaredConstructors()[0];
-            final ArgumentType<Object> inst;
-            if (ctr.getParameterCount() == 0) {
-                inst = (ArgumentType<Object>) ctr.newInstance();
-            } else {
-                // 1.19+
-                inst = (ArgumentType<Object>) ctr.newInstance(CommandBuildContextSupplier.commandBuildContext());
-            }
-            return new WrappedBrigadierParser<C, Object>(inst)
+        private ArgumentParser<C, ProtoItemStack> createParser() {
+            return new WrappedBrigadierParser<C, Object>(ARGUMENT_TYPE)
                     .flatMapSuccess((ctx, itemInput) -> ArgumentParseResult.successFuture(
                             new ModernProtoItemStack(itemInput)));
         }
@@ -219,6 +227,14 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             return this.parser.suggestionProvider();
         }
 
+        private static @NonNull MethodHandle handle(final @NonNull Method method, final @NonNull MethodType type) {
+            try {
+                return CraftBukkitReflection.unreflect(method).asType(type);
+            } catch (final IllegalAccessException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
 
         private static final class ModernProtoItemStack implements ProtoItemStack {
 
@@ -258,18 +274,18 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             @Override
             public @NonNull ItemStack createItemStack(final int stackSize, final boolean respectMaximumStackSize) {
                 try {
-                    return (ItemStack) AS_BUKKIT_COPY_METHOD.invoke(
-                            null,
-                            CREATE_ITEM_STACK_METHOD.invoke(this.itemInput, stackSize, respectMaximumStackSize)
+                    final Object itemStack = (Object) CREATE_ITEM_STACK.invokeExact(
+                            this.itemInput,
+                            stackSize,
+                            respectMaximumStackSize
                     );
-                } catch (final InvocationTargetException ex) {
-                    final Throwable cause = ex.getCause();
-                    if (cause instanceof CommandSyntaxException) {
-                        throw new IllegalArgumentException(cause.getMessage(), cause);
-                    }
-                    throw new RuntimeException(ex);
-                } catch (final ReflectiveOperationException e) {
-                    throw new RuntimeException(e);
+                    return (ItemStack) AS_BUKKIT_STACK.invokeExact(itemStack);
+                } catch (final CommandSyntaxException ex) {
+                    throw new IllegalArgumentException(ex.getMessage(), ex);
+                } catch (final RuntimeException | Error ex) {
+                    throw ex;
+                } catch (final Throwable thr) {
+                    throw new RuntimeException(thr);
                 }
             }
         }
@@ -25,12 +25,12 @@ package org.incendo.cloud.bukkit.parser;
 
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.context.StringRange;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
@@ -39,9 +39,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.ItemStackPredicate;
-import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
-import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
+import org.incendo.cloud.bukkit.internal.SharedArgumentType;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
@@ -63,31 +62,9 @@ import org.incendo.cloud.suggestion.SuggestionProvider;
  */
 public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureArgumentParser<C, ItemStackPredicate> {
 
-    private static final Class<?> CRAFT_ITEM_STACK_CLASS =
-            CraftBukkitReflection.needOBCClass("inventory.CraftItemStack");
-    private static final Class<?> ARGUMENT_ITEM_PREDICATE_CLASS =
-            MinecraftArgumentTypes.getClassByKey(NamespacedKey.minecraft("item_predicate"));
-    private static final Class<?> ARGUMENT_ITEM_PREDICATE_RESULT_CLASS = CraftBukkitReflection.firstNonNullOrNull(
-            CraftBukkitReflection.findNMSClass("ArgumentItemPredicate$b"),
-            CraftBukkitReflection.findMCClass("commands.arguments.item.ArgumentItemPredicate$b"),
-            CraftBukkitReflection.findMCClass("commands.arguments.item.ItemPredicateArgument$Result")
-    );
-    private static final @Nullable Method CREATE_PREDICATE_METHOD = ARGUMENT_ITEM_PREDICATE_RESULT_CLASS == null
-            ? null
-            : CraftBukkitReflection.firstNonNullOrNull(
-                    CraftBukkitReflection.findMethod(
-                            ARGUMENT_ITEM_PREDICATE_RESULT_CLASS,
-                            "create",
-                            com.mojang.brigadier.context.CommandContext.class
-                    ),
-                    CraftBukkitReflection.findMethod(
-                            ARGUMENT_ITEM_PREDICATE_RESULT_CLASS,
-                            "a",
-                            com.mojang.brigadier.context.CommandContext.class
-                    )
-            );
-    private static final Method AS_NMS_COPY_METHOD =
-            CraftBukkitReflection.needMethod(CRAFT_ITEM_STACK_CLASS, "asNMSCopy", ItemStack.class);
+    // Shared by all parser instances, created on first parse or suggestion
+    private static final Supplier<ArgumentType<Object>> ARGUMENT_TYPE =
+            new SharedArgumentType(NamespacedKey.minecraft("item_predicate"));
 
     /**
      * Creates a new item stack predicate parser.
@@ -121,33 +98,21 @@ public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureA
      * @since 1.5.0
      */
     public ItemStackPredicateParser() {
-        try {
-            this.parser = this.createParser();
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException("Failed to initialize ItemPredicate parser.", ex);
-        }
+        this.parser = this.createParser();
     }
 
     @SuppressWarnings("unchecked")
-    private ArgumentParser<C, ItemStackPredicate> createParser() throws ReflectiveOperationException {
-        final Constructor<?> ctr = ARGUMENT_ITEM_PREDICATE_CLASS.getDeclaredConstructors()[0];
-        final ArgumentType<Object> inst;
-        if (ctr.getParameterCount() == 0) {
-            inst = (ArgumentType<Object>) ctr.newInstance();
-        } else {
-            // 1.19+
-            inst = (ArgumentType<Object>) ctr.newInstance(CommandBuildContextSupplier.commandBuildContext());
-        }
-        return new WrappedBrigadierParser<C, Object>(inst).flatMapSuccess((ctx, result) -> {
+    private ArgumentParser<C, ItemStackPredicate> createParser() {
+        return new WrappedBrigadierParser<C, Object>(ARGUMENT_TYPE).flatMapSuccess((ctx, result) -> {
             if (result instanceof Predicate) {
                 // 1.19+
                 return ArgumentParseResult.successFuture(new ItemStackPredicateImpl((Predicate<Object>) result));
             }
-            final Object commandSourceStack = ctx.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+            final Object commandSourceStack = WrappedBrigadierParser.nativeSender(ctx);
             final com.mojang.brigadier.context.CommandContext<Object> dummy = createDummyContext(ctx, commandSourceStack);
-            Objects.requireNonNull(CREATE_PREDICATE_METHOD, "ItemPredicateArgument$Result#create");
+            Objects.requireNonNull(Reflection.CREATE_PREDICATE_METHOD, "ItemPredicateArgument$Result#create");
             try {
-                final Predicate<Object> predicate = (Predicate<Object>) CREATE_PREDICATE_METHOD.invoke(result, dummy);
+                final Predicate<Object> predicate = (Predicate<Object>) Reflection.CREATE_PREDICATE_METHOD.invoke(result, dummy);
                 return ArgumentParseResult.successFuture(new ItemStackPredicateImpl(predicate));
             } catch (final ReflectiveOperationException ex) {
                 throw new RuntimeException(ex);
@@ -209,10 +174,42 @@ public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureA
         @Override
         public boolean test(final @NonNull ItemStack itemStack) {
             try {
-                return this.predicate.test(AS_NMS_COPY_METHOD.invoke(null, itemStack));
+                return this.predicate.test(Reflection.AS_NMS_COPY_METHOD.invoke(null, itemStack));
             } catch (final ReflectiveOperationException ex) {
                 throw new RuntimeException(ex);
             }
         }
     }
+
+
+    // Initialized on first parse, keeping construction and registration of the parser cheap
+    private static final class Reflection {
+
+        private static final Class<?> CRAFT_ITEM_STACK_CLASS =
+                CraftBukkitReflection.needOBCClass("inventory.CraftItemStack");
+        private static final Class<?> ARGUMENT_ITEM_PREDICATE_RESULT_CLASS = CraftBukkitReflection.firstNonNullOrNull(
+                CraftBukkitReflection.findNMSClass("ArgumentItemPredicate$b"),
+                CraftBukkitReflection.findMCClass("commands.arguments.item.ArgumentItemPredicate$b"),
+                CraftBukkitReflection.findMCClass("commands.arguments.item.ItemPredicateArgument$Result")
+        );
+        private static final @Nullable Method CREATE_PREDICATE_METHOD = ARGUMENT_ITEM_PREDICATE_RESULT_CLASS == null
+                ? null
+                : CraftBukkitReflection.firstNonNullOrNull(
+                        CraftBukkitReflection.findMethod(
+                                ARGUMENT_ITEM_PREDICATE_RESULT_CLASS,
+                                "create",
+                                com.mojang.brigadier.context.CommandContext.class
+                        ),
+                        CraftBukkitReflection.findMethod(
+                                ARGUMENT_ITEM_PREDICATE_RESULT_CLASS,
+                                "a",
+                                com.mojang.brigadier.context.CommandContext.class
+                        )
+                );
+        private static final Method AS_NMS_COPY_METHOD =
+                CraftBukkitReflection.needMethod(CRAFT_ITEM_STACK_CLASS, "asNMSCopy", ItemStack.class);
+
+        private Reflection() {
+        }
+    }
 }
@@ -25,14 +25,19 @@ package org.incendo.cloud.bukkit.parser;
 
 import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.BukkitParserParameters;
+import org.incendo.cloud.bukkit.internal.KeyTrie;
+import org.incendo.cloud.bukkit.internal.RegistryReflection;
 import org.incendo.cloud.caption.Caption;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
@@ -102,6 +107,67 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
         );
     }
 
+    /**
+     * Creates a new namespaced key parser suggesting the keys provided by {@code keys}, such as the keys of a registry.
+     * The keys are requested once and indexed, and requested again after registries are reloaded.
+     *
+     * <p>Parsing is not restricted to the provided keys.</p>
+     *
+     * @param requireExplicitNamespace whether a namespace is required
+     * @param defaultNamespace         the namespace to use if no namespace is given
+     * @param keys                     supplier of the keys to suggest
+     * @param                          <C> command sender type
+     * @return the created parser
+     * @see #builtInRegistryKeys(String)
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public static <C> @NonNull ParserDescriptor<C, NamespacedKey> namespacedKeyParser(
+            final boolean requireExplicitNamespace,
+            final @NonNull String defaultNamespace,
+            final @NonNull Supplier<? extends @NonNull Iterable<@NonNull NamespacedKey>> keys
+    ) {
+        return ParserDescriptor.of(
+                new NamespacedKeyParser<>(requireExplicitNamespace, defaultNamespace, keys),
+                NamespacedKey.class
+        );
+    }
+
+    /**
+     * Returns a supplier of the keys of a built-in Minecraft registry, such as {@code item}, {@code block},
+     * {@code sound_event} or {@code entity_type}, for use with
+     * {@link #namespacedKeyParser(boolean, String, Supplier)}. Registries that are loaded from data packs, such as
+     * biomes and structures, are not built-in and should be supplied through the Bukkit or Paper registry API.
+     *
+     * <p>Requires Minecraft 1.17 or later, the supplier returns no keys on older versions or if the registry does not
+     * exist.</p>
+     *
+     * @param registry registry name
+     * @return the key supplier
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    @SuppressWarnings("deprecation")
+    public static @NonNull Supplier<@NonNull Iterable<@NonNull NamespacedKey>> builtInRegistryKeys(
+            final @NonNull String registry
+    ) {
+        return () -> {
+            if (RegistryReflection.REGISTRY_REGISTRY == null) {
+                return Collections.emptyList();
+            }
+            final Object resolved = RegistryReflection.registryByName(registry);
+            if (resolved == null) {
+                return Collections.emptyList();
+            }
+            final List<NamespacedKey> keys = new ArrayList<>();
+            RegistryReflection.forEachEntry(resolved, (key, value) -> {
+                final int separator = key.indexOf(':');
+                keys.add(new NamespacedKey(key.substring(0, separator), key.substring(separator + 1)));
+            });
+            return keys;
+        };
+    }
+
     /**
      * Returns a {@link CommandComponent.Builder} using {@link #namespacedKeyParser()} as the parser.
      *
@@ -116,6 +182,8 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
 
     private final boolean requireExplicitNamespace;
     private final String defaultNamespace;
+    private final @Nullable Supplier<? extends Iterable<NamespacedKey>> keys;
+    private volatile @Nullable KeyIndex keyIndex;
 
     /**
      * Create a new {@link NamespacedKeyParser}.
@@ -127,9 +195,27 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
     public NamespacedKeyParser(
             final boolean requireExplicitNamespace,
             final String defaultNamespace
+    ) {
+        this(requireExplicitNamespace, defaultNamespace, null);
+    }
+
+    /**
+     * Create a new {@link NamespacedKeyParser} suggesting the keys provided by {@code keys}.
+     *
+     * @param requireExplicitNamespace whether to require an explicit namespace
+     * @param defaultNamespace         default namespace
+     * @param keys                     supplier of the keys to suggest, or {@code null} to only suggest namespaces
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public NamespacedKeyParser(
+            final boolean requireExplicitNamespace,
+            final String defaultNamespace,
+            final @Nullable Supplier<? extends Iterable<NamespacedKey>> keys
     ) {
         this.requireExplicitNamespace = requireExplicitNamespace;
         this.defaultNamespace = defaultNamespace;
+        this.keys = keys;
     }
 
     @SuppressWarnings("deprecation")
@@ -139,17 +225,23 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.peekString();
-        final String[] split = input.split(":");
-        final int maxSemi = split.length > 1 ? 1 : 0;
-        if (input.length() - input.replace(":", "").length() > maxSemi) {
-            // Wrong number of ':'
+        int separators = 0;
+        int separator = -1;
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) == ':') {
+                separators++;
+                separator = i;
+            }
+        }
+        if (separators > 1 || (separator != -1 && separator == input.length() - 1)) {
+            // Wrong number of ':', or nothing after it
             return ArgumentParseResult.failure(new NamespacedKeyParseException(
                     BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_NAMESPACED_KEY_KEY, input, commandContext
             ));
         }
         try {
             final NamespacedKey ret;
-            if (split.length == 1) {
+            if (separator == -1) {
                 if (this.requireExplicitNamespace) {
                     // Did not provide explicit namespace when option was enabled
                     return ArgumentParseResult.failure(new NamespacedKeyParseException(
@@ -157,13 +249,9 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
                     ));
                 }
                 ret = new NamespacedKey(this.defaultNamespace, commandInput.readString());
-            } else if (split.length == 2) {
-                ret = new NamespacedKey(commandInput.readUntilAndSkip(':'), commandInput.readString());
             } else {
-                // Too many parts, ie not:valid:input
-                return ArgumentParseResult.failure(new NamespacedKeyParseException(
-                        BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_NAMESPACED_KEY_KEY, input, commandContext
-                ));
+                commandInput.readString();
+                ret = new NamespacedKey(input.substring(0, separator), input.substring(separator + 1));
             }
 
             // Success!
@@ -186,10 +274,14 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
+        final String token = input.peekString();
+        if (this.keys != null) {
+            return this.keyIndex().suggestions(token);
+        }
+
         final List<String> ret = new ArrayList<>();
         ret.add(this.defaultNamespace + ":");
 
-        final String token = input.peekString();
         if (!token.contains(":") && !token.isEmpty()) {
             ret.add(token + ":");
         }
@@ -197,6 +289,16 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
         return ret;
     }
 
+    private @NonNull KeyIndex keyIndex() {
+        final KeyIndex keyIndex = this.keyIndex;
+        if (keyIndex != null && !keyIndex.keys.stale()) {
+            return keyIndex;
+        }
+        final KeyIndex created = new KeyIndex(Objects.requireNonNull(this.keys, "keys").get());
+        this.keyIndex = created;
+        return created;
+    }
+
     /**
      * Called reflectively by {@link BukkitCommandManager}.
      *
@@ -213,6 +315,43 @@ public final class NamespacedKeyParser<C> implements ArgumentParser<C, Namespace
     }
 
 
+    private final class KeyIndex {
+
+        private final KeyTrie keys;
+        private final KeyTrie defaultNamespaceValues;
+
+        private KeyIndex(final @NonNull Iterable<@NonNull NamespacedKey> keys) {
+            final List<String> namespacedKeys = new ArrayList<>();
+            final List<String> values = new ArrayList<>();
+            for (final NamespacedKey key : keys) {
+                namespacedKeys.add(key.toString());
+                if (key.getNamespace().equals(NamespacedKeyParser.this.defaultNamespace)) {
+                    values.add(key.getKey());
+                }
+            }
+            this.keys = KeyTrie.of(namespacedKeys);
+            this.defaultNamespaceValues = NamespacedKeyParser.this.requireExplicitNamespace
+                    ? KeyTrie.of(Collections.emptyList())
+                    : KeyTrie.of(values);
+        }
+
+        private @NonNull List<@NonNull String> suggestions(final @NonNull String token) {
+            final List<String> keys = this.keys.matching(token);
+            if (token.indexOf(':') != -1) {
+                return keys;
+            }
+            final List<String> values = this.defaultNamespaceValues.matching(token);
+            if (values.isEmpty()) {
+                return keys;
+            }
+            final List<String> suggestions = new ArrayList<>(values.size() + keys.size());
+            suggestions.addAll(values);
+            suggestions.addAll(keys);
+            return suggestions;
+        }
+    }
+
+
     /**
      * Exception used when {@link NamespacedKeyParser} fails.
      *
@@ -23,12 +23,11 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
-import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
+import org.incendo.cloud.bukkit.internal.WorldIndex;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -71,7 +70,7 @@ public final class WorldParser<C> implements ArgumentParser<C, World>, BlockingS
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.readString();
-        final World world = Bukkit.getWorld(input);
+        final World world = WorldIndex.world(input);
         if (world == null) {
             return ArgumentParseResult.failure(new WorldParseException(input, commandContext));
         }
@@ -82,7 +81,7 @@ public final class WorldParser<C> implements ArgumentParser<C, World>, BlockingS
     @Override
     public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
                                                                 final @NonNull CommandInput input) {
-        return Bukkit.getWorlds().stream().map(World::getName).collect(Collectors.toList());
+        return WorldIndex.names(input.peekString());
     }
 
 
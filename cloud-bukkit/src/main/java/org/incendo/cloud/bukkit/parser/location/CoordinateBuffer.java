@@ -0,0 +1,228 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.parser.location;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.exception.parsing.ParserException;
+
+/**
+ * Coordinates read by {@link LocationParser} and {@link Location2DParser} as primitives, reused per thread so that
+ * parsing a position only allocates the resulting location.
+ */
+final class CoordinateBuffer {
+
+    private static final ThreadLocal<CoordinateBuffer> BUFFERS = ThreadLocal.withInitial(CoordinateBuffer::new);
+
+    private final double[] values = new double[3];
+    private final LocationCoordinateType[] types = new LocationCoordinateType[3];
+    private final Location origin = new Location(null, 0, 0, 0);
+
+    private CoordinateBuffer() {
+    }
+
+    /**
+     * Returns the buffer of the current thread.
+     *
+     * @return the buffer
+     */
+    static @NonNull CoordinateBuffer get() {
+        return BUFFERS.get();
+    }
+
+    /**
+     * Reads the x, y and z coordinates, or only x and z if {@code twoDimensional}, in which case y is treated as
+     * {@code ~} or {@code ^}.
+     *
+     * @param commandContext command context
+     * @param commandInput   command input
+     * @param twoDimensional whether to omit the y coordinate
+     * @return the failure, or {@code null} if the coordinates were read
+     */
+    @Nullable ParserException read(
+            final @NonNull CommandContext<?> commandContext,
+            final @NonNull CommandInput commandInput,
+            final boolean twoDimensional
+    ) {
+        final int count = twoDimensional ? 2 : 3;
+        if (commandInput.remainingTokens() < count) {
+            return new LocationParser.LocationParseException(
+                    commandContext,
+                    LocationParser.LocationParseException.FailureReason.WRONG_FORMAT,
+                    commandInput.remainingInput()
+            );
+        }
+        for (int i = 0; i < count; i++) {
+            if (commandInput.peekString().isEmpty()) {
+                return new LocationParser.LocationParseException(
+                        commandContext,
+                        LocationParser.LocationParseException.FailureReason.WRONG_FORMAT,
+                        commandInput.remainingInput()
+                );
+            }
+            final ParserException failure = LocationCoordinateParser.read(
+                    commandContext,
+                    commandInput,
+                    this,
+                    twoDimensional && i == 1 ? 2 : i
+            );
+            if (failure != null) {
+                return failure;
+            }
+        }
+        if (twoDimensional) {
+            this.set(1, this.local(0) ? LocationCoordinateType.LOCAL : LocationCoordinateType.RELATIVE, 0);
+        }
+        if (this.local(0) != this.local(1) || this.local(0) != this.local(2)) {
+            return new LocationParser.LocationParseException(
+                    commandContext,
+                    LocationParser.LocationParseException.FailureReason.MIXED_LOCAL_ABSOLUTE,
+                    ""
+            );
+        }
+        return null;
+    }
+
+    void set(final int axis, final @NonNull LocationCoordinateType type, final double value) {
+        this.types[axis] = type;
+        this.values[axis] = value;
+    }
+
+    @NonNull LocationCoordinateType type(final int axis) {
+        return this.types[axis];
+    }
+
+    double value(final int axis) {
+        return this.values[axis];
+    }
+
+    /**
+     * Returns the location the coordinates describe relative to the sender.
+     *
+     * @param sender command sender
+     * @return the location
+     */
+    @NonNull Location location(final @NonNull CommandSender sender) {
+        this.resolve(sender);
+        final Location location = new Location(
+                this.origin.getWorld(),
+                this.values[0],
+                this.values[1],
+                this.values[2],
+                this.origin.getYaw(),
+                this.origin.getPitch()
+        );
+        this.origin.setWorld(null);
+        return location;
+    }
+
+    /**
+     * Returns the two-dimensional location the coordinates describe relative to the sender.
+     *
+     * @param sender command sender
+     * @return the location
+     */
+    @NonNull Location2D location2D(final @NonNull CommandSender sender) {
+        this.resolve(sender);
+        final Location2D location = Location2D.from(this.origin.getWorld(), this.values[0], this.values[2]);
+        this.origin.setWorld(null);
+        return location;
+    }
+
+    private boolean local(final int axis) {
+        return this.types[axis] == LocationCoordinateType.LOCAL;
+    }
+
+    private void resolve(final @NonNull CommandSender sender) {
+        if (sender instanceof BlockCommandSender) {
+            final Block block = ((BlockCommandSender) sender).getBlock();
+            this.origin.setWorld(block.getWorld());
+            this.origin.setX(block.getX());
+            this.origin.setY(block.getY());
+            this.origin.setZ(block.getZ());
+            this.origin.setYaw(0);
+            this.origin.setPitch(0);
+        } else if (sender instanceof Entity) {
+            ((Entity) sender).getLocation(this.origin);
+        } else {
+            this.origin.setWorld(Bukkit.getWorlds().get(0));
+            this.origin.setX(0);
+            this.origin.setY(0);
+            this.origin.setZ(0);
+            this.origin.setYaw(0);
+            this.origin.setPitch(0);
+        }
+
+        if (this.local(0)) {
+            this.toLocalSpace();
+            return;
+        }
+        this.values[0] = this.absolute(0, this.origin.getX());
+        this.values[1] = this.absolute(1, this.origin.getY());
+        this.values[2] = this.absolute(2, this.origin.getZ());
+    }
+
+    private double absolute(final int axis, final double origin) {
+        return this.types[axis] == LocationCoordinateType.RELATIVE ? origin + this.values[axis] : this.values[axis];
+    }
+
+    private void toLocalSpace() {
+        final float yaw = this.origin.getYaw();
+        final float pitch = this.origin.getPitch();
+        final double cosYaw = Math.cos(toRadians(yaw + 90.0F));
+        final double sinYaw = Math.sin(toRadians(yaw + 90.0F));
+        final double cosPitch = Math.cos(toRadians(-pitch));
+        final double sinPitch = Math.sin(toRadians(-pitch));
+        final double cosNegYaw = Math.cos(toRadians(-pitch + 90.0F));
+        final double sinNegYaw = Math.sin(toRadians(-pitch + 90.0F));
+        // Forward (z) and up (y) axes of the sender, the left (x) axis is their negated cross product
+        final double zX = cosYaw * cosPitch;
+        final double zY = sinPitch;
+        final double zZ = sinYaw * cosPitch;
+        final double yX = cosYaw * cosNegYaw;
+        final double yY = sinNegYaw;
+        final double yZ = sinYaw * cosNegYaw;
+        final double xX = -(zY * yZ - yY * zZ);
+        final double xY = -(zZ * yX - yZ * zX);
+        final double xZ = -(zX * yY - yX * zY);
+        final double left = this.values[0];
+        final double up = this.values[1];
+        final double forwards = this.values[2];
+        this.values[0] = this.origin.getX() + left * xX + up * yX + forwards * zX;
+        this.values[1] = this.origin.getY() + left * xY + up * yY + forwards * zY;
+        this.values[2] = this.origin.getZ() + left * xZ + up * yZ + forwards * zZ;
+    }
+
+    private static float toRadians(final float degrees) {
+        return degrees * (float) Math.PI / 180f;
+    }
+}
@@ -0,0 +1,187 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.parser.location;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+
+/**
+ * Suggestions for {@link LocationParser} and {@link Location2DParser}, offering whole positions like vanilla does:
+ * {@code ~ ~ ~}, the sender's block and the block they are looking at, followed by the digits that may continue the
+ * coordinate being typed. Only the suggestions matching what was typed are created.
+ *
+ * <p>Suggestions are usually created off the main thread, in which case the position of an entity sender is not
+ * read and only the generic suggestions are offered.</p>
+ */
+final class CoordinateSuggestions {
+
+    private static final String[] DIGITS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+    private static final int TARGET_DISTANCE = 5;
+    private static final boolean TARGET_BLOCK_EXACT =
+            CraftBukkitReflection.findMethod(LivingEntity.class, "getTargetBlockExact", int.class) != null;
+    // Entities are only read on the thread owning them, which cannot be checked through the Bukkit API on Folia
+    private static final boolean REGIONIZED =
+            CraftBukkitReflection.classExists("io.papermc.paper.threadedregions.RegionizedServer");
+
+    private CoordinateSuggestions() {
+    }
+
+    static @NonNull List<@NonNull String> suggestions(
+            final int components,
+            final @NonNull CommandContext<?> commandContext,
+            final @NonNull CommandInput input
+    ) {
+        final int toSkip = Math.min(components, input.remainingTokens()) - 1;
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < toSkip; i++) {
+            builder.append(input.readStringSkipWhitespace()).append(' ');
+        }
+        final String token = input.hasRemainingInput() ? input.peekString() : "";
+        builder.append(token);
+        final String typed = builder.toString();
+
+        final List<String> suggestions = new ArrayList<>();
+        addPosition(suggestions, typed, builder, components, '~');
+        if (!typed.isEmpty() && typed.charAt(0) == '^') {
+            addPosition(suggestions, typed, builder, components, '^');
+        }
+        final CommandSender sender = commandContext.getOrDefault(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, null);
+        if (sender instanceof BlockCommandSender) {
+            final Block block = ((BlockCommandSender) sender).getBlock();
+            addBlock(suggestions, typed, builder, components, block.getX(), block.getY(), block.getZ());
+        } else if (sender instanceof Entity && !REGIONIZED && Bukkit.isPrimaryThread()) {
+            final Location location = ((Entity) sender).getLocation();
+            addBlock(suggestions, typed, builder, components, location.getBlockX(), location.getBlockY(), location.getBlockZ());
+            if (sender instanceof LivingEntity && TARGET_BLOCK_EXACT) {
+                final Block target = ((LivingEntity) sender).getTargetBlockExact(TARGET_DISTANCE);
+                if (target != null) {
+                    addBlock(suggestions, typed, builder, components, target.getX(), target.getY(), target.getZ());
+                }
+            }
+        }
+        addDigits(suggestions, typed, token);
+        return suggestions;
+    }
+
+    private static void addPosition(
+            final @NonNull List<@NonNull String> suggestions,
+            final @NonNull String typed,
+            final @NonNull StringBuilder builder,
+            final int components,
+            final char prefix
+    ) {
+        builder.setLength(0);
+        for (int i = 0; i < components; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(prefix);
+        }
+        add(suggestions, typed, builder);
+    }
+
+    private static void addBlock(
+            final @NonNull List<@NonNull String> suggestions,
+            final @NonNull String typed,
+            final @NonNull StringBuilder builder,
+            final int components,
+            final int x,
+            final int y,
+            final int z
+    ) {
+        builder.setLength(0);
+        builder.append(x).append(' ');
+        if (components == 3) {
+            builder.append(y).append(' ');
+        }
+        builder.append(z);
+        add(suggestions, typed, builder);
+    }
+
+    private static void add(
+            final @NonNull List<@NonNull String> suggestions,
+            final @NonNull String typed,
+            final @NonNull CharSequence candidate
+    ) {
+        if (candidate.length() < typed.length()) {
+            return;
+        }
+        for (int i = 0; i < typed.length(); i++) {
+            if (typed.charAt(i) != candidate.charAt(i)) {
+                return;
+            }
+        }
+        final String suggestion = candidate.toString();
+        if (!suggestions.contains(suggestion)) {
+            suggestions.add(suggestion);
+        }
+    }
+
+    private static void addDigits(
+            final @NonNull List<@NonNull String> suggestions,
+            final @NonNull String typed,
+            final @NonNull String token
+    ) {
+        int start = 0;
+        if (start < token.length() && (token.charAt(start) == '~' || token.charAt(start) == '^')) {
+            start++;
+        }
+        if (start < token.length() && token.charAt(start) == '-') {
+            start++;
+        }
+        for (int i = start; i < token.length(); i++) {
+            if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                return;
+            }
+        }
+        final int digits = token.length() - start;
+        if (digits > 0 && !suggestions.contains(typed)) {
+            suggestions.add(typed);
+        }
+        // Leading zeros and numbers past the integer range are not worth suggesting
+        if ((digits == 1 && token.charAt(start) == '0') || digits >= 9) {
+            return;
+        }
+        final boolean negative = start > 0 && token.charAt(start - 1) == '-';
+        for (int i = digits == 0 && negative ? 1 : 0; i < DIGITS.length; i++) {
+            final String suggestion = typed.concat(DIGITS[i]);
+            if (!suggestions.contains(suggestion)) {
+                suggestions.add(suggestion);
+            }
+        }
+    }
+}
@@ -24,17 +24,13 @@
 package org.incendo.cloud.bukkit.parser.location;
 
 import org.apiguardian.api.API;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
-import org.bukkit.command.BlockCommandSender;
-import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Entity;
-import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.CommandRegions;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
@@ -73,94 +69,19 @@ public final class Location2DParser<C> implements ArgumentParser<C, Location2D>,
         return CommandComponent.<C, Location2D>builder().parser(location2DParser());
     }
 
-    private final LocationCoordinateParser<C> locationCoordinateParser = new LocationCoordinateParser<>();
-
     @Override
     public @NonNull ArgumentParseResult<@NonNull Location2D> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        if (commandInput.remainingTokens() < 2) {
-            return ArgumentParseResult.failure(
-                    new LocationParser.LocationParseException(
-                            commandContext,
-                            LocationParser.LocationParseException.FailureReason.WRONG_FORMAT,
-                            commandInput.remainingInput()
-                    )
-            );
-        }
-        final LocationCoordinate[] coordinates = new LocationCoordinate[2];
-        for (int i = 0; i < 2; i++) {
-            if (commandInput.peekString().isEmpty()) {
-                return ArgumentParseResult.failure(
-                        new LocationParser.LocationParseException(
-                                commandContext,
-                                LocationParser.LocationParseException.FailureReason.WRONG_FORMAT,
-                                commandInput.remainingInput()
-                        )
-                );
-            }
-            final ArgumentParseResult<@NonNull LocationCoordinate> coordinate = this.locationCoordinateParser.parse(
-                    commandContext,
-                    commandInput
-            );
-            if (coordinate.failure().isPresent()) {
-                return ArgumentParseResult.failure(
-                        coordinate.failure().get()
-                );
-            }
-            coordinates[i] = coordinate.parsedValue().orElseThrow(NullPointerException::new);
-        }
-        final Location originalLocation;
-        final CommandSender bukkitSender = commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER);
-
-        if (bukkitSender instanceof BlockCommandSender) {
-            originalLocation = ((BlockCommandSender) bukkitSender).getBlock().getLocation();
-        } else if (bukkitSender instanceof Entity) {
-            originalLocation = ((Entity) bukkitSender).getLocation();
-        } else {
-            originalLocation = new Location(Bukkit.getWorlds().get(0), 0, 0, 0);
-        }
-
-        if (coordinates[0].type() == LocationCoordinateType.LOCAL && coordinates[1].type() != LocationCoordinateType.LOCAL) {
-            return ArgumentParseResult.failure(
-                    new LocationParser.LocationParseException(
-                            commandContext,
-                            LocationParser.LocationParseException.FailureReason.MIXED_LOCAL_ABSOLUTE,
-                            ""
-                    )
-            );
+        final CoordinateBuffer buffer = CoordinateBuffer.get();
+        final ParserException failure = buffer.read(commandContext, commandInput, true);
+        if (failure != null) {
+            return ArgumentParseResult.failure(failure);
         }
-
-        if (coordinates[0].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setX(coordinates[0].coordinate());
-        } else if (coordinates[0].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(coordinates[0].coordinate(), 0, 0);
-        }
-
-        if (coordinates[1].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setZ(coordinates[1].coordinate());
-        } else if (coordinates[1].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(0, 0, coordinates[1].coordinate());
-        } else {
-            final Vector declaredPos = new Vector(
-                    coordinates[0].coordinate(),
-                    0,
-                    coordinates[1].coordinate()
-            );
-            final Location local = LocationParser.toLocalSpace(originalLocation, declaredPos);
-            return ArgumentParseResult.success(Location2D.from(
-                    originalLocation.getWorld(),
-                    local.getX(),
-                    local.getZ()
-            ));
-        }
-
-        return ArgumentParseResult.success(Location2D.from(
-                originalLocation.getWorld(),
-                originalLocation.getX(),
-                originalLocation.getZ()
-        ));
+        final Location2D location = buffer.location2D(commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER));
+        CommandRegions.declare(commandContext, location);
+        return ArgumentParseResult.success(location);
     }
 
     @Override
@@ -168,7 +89,7 @@ public final class Location2DParser<C> implements ArgumentParser<C, Location2D>,
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
-        return LocationParser.getSuggestions(2, commandContext, input);
+        return CoordinateSuggestions.suggestions(2, commandContext, input);
     }
 
 }
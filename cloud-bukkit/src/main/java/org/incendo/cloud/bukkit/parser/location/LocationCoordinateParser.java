@@ -24,8 +24,10 @@
 package org.incendo.cloud.bukkit.parser.location;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.standard.DoubleParser;
@@ -38,10 +40,35 @@ import org.incendo.cloud.parser.standard.DoubleParser;
  */
 public final class LocationCoordinateParser<C> implements ArgumentParser<C, LocationCoordinate> {
 
+    // Only used for reporting failures, the parser holds no state
+    private static final DoubleParser<?> DOUBLE_PARSER = new DoubleParser<>(
+            DoubleParser.DEFAULT_MINIMUM,
+            DoubleParser.DEFAULT_MAXIMUM
+    );
+
     @Override
     public @NonNull ArgumentParseResult<@NonNull LocationCoordinate> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
+    ) {
+        final CoordinateBuffer buffer = CoordinateBuffer.get();
+        final ParserException failure = read(commandContext, commandInput, buffer, 0);
+        if (failure != null) {
+            return ArgumentParseResult.failure(failure);
+        }
+        return ArgumentParseResult.success(
+                LocationCoordinate.of(
+                        buffer.type(0),
+                        buffer.value(0)
+                )
+        );
+    }
+
+    static @Nullable ParserException read(
+            final @NonNull CommandContext<?> commandContext,
+            final @NonNull CommandInput commandInput,
+            final @NonNull CoordinateBuffer buffer,
+            final int axis
     ) {
         final String input = commandInput.skipWhitespace().peekString();
 
@@ -68,21 +95,14 @@ public final class LocationCoordinateParser<C> implements ArgumentParser<C, Loca
                 commandInput.read();
             }
         } catch (final Exception e) {
-            return ArgumentParseResult.failure(new DoubleParser.DoubleParseException(
+            return new DoubleParser.DoubleParseException(
                     input,
-                    new DoubleParser<>(
-                            DoubleParser.DEFAULT_MINIMUM,
-                            DoubleParser.DEFAULT_MAXIMUM
-                    ),
+                    DOUBLE_PARSER,
                     commandContext
-            ));
+            );
         }
 
-        return ArgumentParseResult.success(
-                LocationCoordinate.of(
-                        locationCoordinateType,
-                        coordinate
-                )
-        );
+        buffer.set(axis, locationCoordinateType, coordinate);
+        return null;
     }
 }
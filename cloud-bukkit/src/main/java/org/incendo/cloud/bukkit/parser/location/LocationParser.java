@@ -23,18 +23,12 @@
 //
 package org.incendo.cloud.bukkit.parser.location;
 
-import java.util.List;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.command.BlockCommandSender;
-import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Entity;
-import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.CommandRegions;
 import org.incendo.cloud.caption.Caption;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
@@ -44,9 +38,7 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
-import org.incendo.cloud.parser.standard.IntegerParser;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
-import org.incendo.cloud.type.range.Range;
 
 /**
  * Parser that parses {@link Location} from three doubles. This will use the command
@@ -57,8 +49,6 @@ import org.incendo.cloud.type.range.Range;
  */
 public final class LocationParser<C> implements ArgumentParser<C, Location>, BlockingSuggestionProvider.Strings<C> {
 
-    private static final Range<Integer> SUGGESTION_RANGE = Range.intRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
-
     /**
      * Creates a new location parser.
      *
@@ -83,124 +73,19 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
         return CommandComponent.<C, Location>builder().parser(locationParser());
     }
 
-    private final LocationCoordinateParser<C> locationCoordinateParser = new LocationCoordinateParser<>();
-
     @Override
     public @NonNull ArgumentParseResult<@NonNull Location> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        if (commandInput.remainingTokens() < 3) {
-            return ArgumentParseResult.failure(
-                    new LocationParseException(
-                            commandContext,
-                            LocationParseException.FailureReason.WRONG_FORMAT,
-                            commandInput.remainingInput()
-                    )
-            );
-        }
-
-        final LocationCoordinate[] coordinates = new LocationCoordinate[3];
-        for (int i = 0; i < 3; i++) {
-            if (commandInput.peekString().isEmpty()) {
-                return ArgumentParseResult.failure(
-                        new LocationParseException(
-                                commandContext,
-                                LocationParseException.FailureReason.WRONG_FORMAT,
-                                commandInput.remainingInput()
-                        )
-                );
-            }
-            final ArgumentParseResult<@NonNull LocationCoordinate> coordinate = this.locationCoordinateParser.parse(
-                    commandContext,
-                    commandInput
-            );
-            if (coordinate.failure().isPresent()) {
-                return ArgumentParseResult.failure(
-                        coordinate.failure().get()
-                );
-            }
-            coordinates[i] = coordinate.parsedValue().orElseThrow(NullPointerException::new);
-        }
-        final Location originalLocation;
-        final CommandSender bukkitSender = commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER);
-
-        if (bukkitSender instanceof BlockCommandSender) {
-            originalLocation = ((BlockCommandSender) bukkitSender).getBlock().getLocation();
-        } else if (bukkitSender instanceof Entity) {
-            originalLocation = ((Entity) bukkitSender).getLocation();
-        } else {
-            originalLocation = new Location(Bukkit.getWorlds().get(0), 0, 0, 0);
+        final CoordinateBuffer buffer = CoordinateBuffer.get();
+        final ParserException failure = buffer.read(commandContext, commandInput, false);
+        if (failure != null) {
+            return ArgumentParseResult.failure(failure);
         }
-
-        if (((coordinates[0].type() == LocationCoordinateType.LOCAL)
-                != (coordinates[1].type() == LocationCoordinateType.LOCAL))
-                || ((coordinates[0].type() == LocationCoordinateType.LOCAL)
-                != (coordinates[2].type() == LocationCoordinateType.LOCAL))
-        ) {
-            return ArgumentParseResult.failure(
-                    new LocationParseException(
-                            commandContext,
-                            LocationParseException.FailureReason.MIXED_LOCAL_ABSOLUTE,
-                            ""
-                    )
-            );
-        }
-
-        if (coordinates[0].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setX(coordinates[0].coordinate());
-        } else if (coordinates[0].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(coordinates[0].coordinate(), 0, 0);
-        }
-
-        if (coordinates[1].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setY(coordinates[1].coordinate());
-        } else if (coordinates[1].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(0, coordinates[1].coordinate(), 0);
-        }
-
-        if (coordinates[2].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setZ(coordinates[2].coordinate());
-        } else if (coordinates[2].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(0, 0, coordinates[2].coordinate());
-        } else {
-            final Vector declaredPos = new Vector(
-                    coordinates[0].coordinate(),
-                    coordinates[1].coordinate(),
-                    coordinates[2].coordinate()
-            );
-            return ArgumentParseResult.success(
-                    toLocalSpace(originalLocation, declaredPos)
-            );
-        }
-
-        return ArgumentParseResult.success(
-                originalLocation
-        );
-    }
-
-    static @NonNull Location toLocalSpace(final @NonNull Location originalLocation, final @NonNull Vector declaredPos) {
-        final double cosYaw = Math.cos(toRadians(originalLocation.getYaw() + 90.0F));
-        final double sinYaw = Math.sin(toRadians(originalLocation.getYaw() + 90.0F));
-        final double cosPitch = Math.cos(toRadians(-originalLocation.getPitch()));
-        final double sinPitch = Math.sin(toRadians(-originalLocation.getPitch()));
-        final double cosNegYaw = Math.cos(toRadians(-originalLocation.getPitch() + 90.0F));
-        final double sinNegYaw = Math.sin(toRadians(-originalLocation.getPitch() + 90.0F));
-        final Vector zModifier = new Vector(cosYaw * cosPitch, sinPitch, sinYaw * cosPitch);
-        final Vector yModifier = new Vector(cosYaw * cosNegYaw, sinNegYaw, sinYaw * cosNegYaw);
-        final Vector xModifier = zModifier.crossProduct(yModifier).multiply(-1);
-        final double xOffset = dotProduct(declaredPos, xModifier.getX(), yModifier.getX(), zModifier.getX());
-        final double yOffset = dotProduct(declaredPos, xModifier.getY(), yModifier.getY(), zModifier.getY());
-        final double zOffset = dotProduct(declaredPos, xModifier.getZ(), yModifier.getZ(), zModifier.getZ());
-        return originalLocation.add(xOffset, yOffset, zOffset);
-    }
-
-    private static double dotProduct(final Vector location, final double x, final double y, final double z) {
-        return location.getX() * x + location.getY() * y + location.getZ() * z;
-    }
-
-    private static float toRadians(final float degrees) {
-        return degrees * (float) Math.PI / 180f;
+        final Location location = buffer.location(commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER));
+        CommandRegions.declare(commandContext, location);
+        return ArgumentParseResult.success(location);
     }
 
     @Override
@@ -208,31 +93,9 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
-        return LocationParser.getSuggestions(3, commandContext, input);
+        return CoordinateSuggestions.suggestions(3, commandContext, input);
     }
 
-    static <C> @NonNull List<@NonNull String> getSuggestions(
-            final int components,
-            final @NonNull CommandContext<C> commandContext,
-            final @NonNull CommandInput input
-    ) {
-        final int toSkip = Math.min(components, input.remainingTokens()) - 1;
-        final StringBuilder prefix = new StringBuilder();
-        for (int i = 0; i < toSkip; i++) {
-            prefix.append(input.readStringSkipWhitespace()).append(" ");
-        }
-
-        if (input.hasRemainingInput() && (input.peek() == '~' || input.peek() == '^')) {
-            prefix.append(input.read());
-        }
-
-        return IntegerParser.getSuggestions(
-                SUGGESTION_RANGE,
-                input
-        ).stream().map(string -> prefix + string).collect(Collectors.toList());
-    }
-
-
     static class LocationParseException extends ParserException {
 
 
@@ -24,11 +24,14 @@
 package org.incendo.cloud.bukkit.parser.selector;
 
 import com.google.common.base.Suppliers;
+import com.google.common.collect.MapMaker;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -41,10 +44,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
@@ -56,6 +60,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.CommandRegions;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
 import org.incendo.cloud.context.CommandContext;
@@ -68,6 +73,16 @@ import org.incendo.cloud.suggestion.SuggestionProvider;
 @DefaultQualifier(NonNull.class)
 final class SelectorUtils {
 
+    // Shared by all selector parsers, created on first parse or suggestion
+    private static final Supplier<ArgumentType<Object>> SINGLE_ENTITY_ARGUMENT =
+            Suppliers.memoize(() -> createEntityArgument(true, false));
+    private static final Supplier<ArgumentType<Object>> SINGLE_PLAYER_ARGUMENT =
+            Suppliers.memoize(() -> createEntityArgument(true, true));
+    private static final Supplier<ArgumentType<Object>> ENTITIES_ARGUMENT =
+            Suppliers.memoize(() -> createEntityArgument(false, false));
+    private static final Supplier<ArgumentType<Object>> PLAYERS_ARGUMENT =
+            Suppliers.memoize(() -> createEntityArgument(false, true));
+
     private SelectorUtils() {
     }
 
@@ -80,12 +95,19 @@ final class SelectorUtils {
             return null;
         }
         final WrappedBrigadierParser<C, Object> wrappedBrigParser = new WrappedBrigadierParser<>(
-                () -> createEntityArgument(single, playersOnly),
+                entityArgument(single, playersOnly),
                 EntityArgumentParseFunction.INSTANCE
         );
         return new ModernSelectorParser<>(wrappedBrigParser, mapper);
     }
 
+    private static Supplier<ArgumentType<Object>> entityArgument(final boolean single, final boolean playersOnly) {
+        if (single) {
+            return playersOnly ? SINGLE_PLAYER_ARGUMENT : SINGLE_ENTITY_ARGUMENT;
+        }
+        return playersOnly ? PLAYERS_ARGUMENT : ENTITIES_ARGUMENT;
+    }
+
     @SuppressWarnings("unchecked")
     private static ArgumentType<Object> createEntityArgument(final boolean single, final boolean playersOnly) {
         final Constructor<?> constructor =
@@ -283,26 +305,33 @@ final class SelectorUtils {
                 final CommandContext<C> commandContext,
                 final CommandInput commandInput
         ) {
-            return CompletableFuture.supplyAsync(() -> {
-                final CommandInput originalCommandInput = commandInput.copy();
-                final ArgumentParseResult<Object> result = this.wrappedBrigadierParser.parse(
-                        commandContext,
-                        commandInput
-                );
-                if (result.failure().isPresent()) {
-                    return (ArgumentParseResult<T>) result;
-                }
-                final String input = originalCommandInput.difference(commandInput);
-                try {
-                    return ArgumentParseResult.success(
-                            this.mapper.mapResult(input, new EntitySelectorWrapper(commandContext, result.parsedValue().get()))
-                    );
-                } catch (final CommandSyntaxException ex) {
-                    return ArgumentParseResult.failure(ex);
-                } catch (final Exception ex) {
-                    throw rethrow(ex);
-                }
-            }, commandContext.get(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR));
+            // Reading the selector syntax does not touch the world, do it on the calling thread
+            final int start = commandInput.cursor();
+            final ArgumentParseResult<Object> result = this.wrappedBrigadierParser.parse(
+                    commandContext,
+                    commandInput
+            );
+            if (result.failure().isPresent()) {
+                return CompletableFuture.completedFuture((ArgumentParseResult<T>) result);
+            }
+            final String input = commandInput.input().substring(start, commandInput.cursor());
+            final EntitySelectorWrapper wrapper = new EntitySelectorWrapper(commandContext, result.parsedValue().get());
+
+            // Only finding the entities needs the sender's thread, the executor runs inline when already on it
+            return CompletableFuture.supplyAsync(
+                    () -> this.resolve(input, wrapper),
+                    commandContext.get(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR)
+            );
+        }
+
+        private ArgumentParseResult<T> resolve(final String input, final EntitySelectorWrapper wrapper) {
+            try {
+                return ArgumentParseResult.success(this.mapper.mapResult(input, wrapper));
+            } catch (final CommandSyntaxException ex) {
+                return ArgumentParseResult.failure(ex);
+            } catch (final Exception ex) {
+                throw rethrow(ex);
+            }
         }
 
         @Override
@@ -310,26 +339,73 @@ final class SelectorUtils {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull CommandInput input
         ) {
-            final Object commandSourceStack = commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
-            final @Nullable Field bypassField =
-                    CraftBukkitReflection.findField(commandSourceStack.getClass(), "bypassSelectorPermissions");
-            try {
-                boolean prev = false;
+            final Object commandSourceStack = WrappedBrigadierParser.nativeSender(commandContext);
+            final @Nullable BypassSelectorPermissions bypass = BypassSelectorPermissions.of(commandSourceStack.getClass());
+            if (bypass == null) {
+                return this.wrappedBrigadierParser.suggestionProvider().suggestionsFuture(commandContext, input);
+            }
+            // The entity argument lists its suggestions during the call, so the flag only has to be set until it returns.
+            // Completions sharing the source are serialized to keep them from resetting the flag under each other.
+            synchronized (BypassSelectorPermissions.lock(commandSourceStack)) {
+                final boolean previous = bypass.get(commandSourceStack);
+                bypass.set(commandSourceStack, true);
                 try {
-                    if (bypassField != null) {
-                        prev = bypassField.getBoolean(commandSourceStack);
-                        bypassField.setBoolean(commandSourceStack, true);
-                    }
-                    // stupid hack
-                    return CompletableFuture.completedFuture(
-                            this.wrappedBrigadierParser.suggestionProvider().suggestionsFuture(commandContext, input).join()
-                    );
+                    return this.wrappedBrigadierParser.suggestionProvider().suggestionsFuture(commandContext, input);
                 } finally {
-                    if (bypassField != null) {
-                        bypassField.setBoolean(commandSourceStack, prev);
-                    }
+                    bypass.set(commandSourceStack, previous);
                 }
-            } catch (final ReflectiveOperationException ex) {
+            }
+        }
+    }
+
+    // Accessors for CraftBukkit's CommandSourceStack#bypassSelectorPermissions
+    private static final class BypassSelectorPermissions {
+
+        private static final ClassValue<Optional<BypassSelectorPermissions>> BY_SOURCE_CLASS =
+                new ClassValue<Optional<BypassSelectorPermissions>>() {
+                    @Override
+                    protected Optional<BypassSelectorPermissions> computeValue(final Class<?> type) {
+                        if (CraftBukkitReflection.findField(type, "bypassSelectorPermissions") == null) {
+                            return Optional.empty();
+                        }
+                        return Optional.of(new BypassSelectorPermissions(
+                                CraftBukkitReflection.needGetter(type, "bypassSelectorPermissions"),
+                                CraftBukkitReflection.needSetter(type, "bypassSelectorPermissions")
+                        ));
+                    }
+                };
+
+        // Private locks per source, as the source itself is shared with the server
+        private static final Map<Object, Object> LOCKS = new MapMaker().weakKeys().makeMap();
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private BypassSelectorPermissions(final MethodHandle getter, final MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        static @Nullable BypassSelectorPermissions of(final Class<?> sourceClass) {
+            return BY_SOURCE_CLASS.get(sourceClass).orElse(null);
+        }
+
+        static Object lock(final Object source) {
+            return LOCKS.computeIfAbsent(source, key -> new Object());
+        }
+
+        boolean get(final Object source) {
+            try {
+                return (boolean) this.getter.invoke(source);
+            } catch (final Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        void set(final Object source, final boolean value) {
+            try {
+                this.setter.invoke(source, value);
+            } catch (final Throwable ex) {
                 throw new RuntimeException(ex);
             }
         }
@@ -344,14 +420,21 @@ final class SelectorUtils {
 
         private static final class Methods {
 
-            private @MonotonicNonNull Method getBukkitEntity;
-            private @MonotonicNonNull Method entity;
-            private @MonotonicNonNull Method player;
-            private @MonotonicNonNull Method entities;
-            private @MonotonicNonNull Method players;
+            // (Object)Object
+            private final MethodHandle getBukkitEntity;
+            // (Object selector, Object source)Object
+            private final MethodHandle entity;
+            private final MethodHandle player;
+            private final MethodHandle entities;
+            private final MethodHandle players;
 
             Methods(final CommandContext<?> commandContext, final Object selector) {
-                final Object nativeSender = commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+                @Nullable Method getBukkitEntity = null;
+                @Nullable Method entity = null;
+                @Nullable Method player = null;
+                @Nullable Method entities = null;
+                @Nullable Method players = null;
+                final Object nativeSender = WrappedBrigadierParser.nativeSender(commandContext);
                 final Class<?> nativeSenderClass = nativeSender.getClass();
                 for (final Method method : selector.getClass().getDeclaredMethods()) {
                     if (method.getParameterCount() != 1
@@ -370,47 +453,59 @@ final class SelectorUtils {
                         final Class<?> clazz = listType instanceof Class
                                 ? (Class<?>) listType
                                 : GenericTypeReflector.erase(listType);
-                        final @Nullable Method getBukkitEntity = findGetBukkitEntityMethod(clazz);
-                        if (getBukkitEntity == null) {
+                        final @Nullable Method bukkitEntityMethod = findGetBukkitEntityMethod(clazz);
+                        if (bukkitEntityMethod == null) {
                             continue;
                         }
-                        final Class<?> bukkitType = getBukkitEntity.getReturnType();
+                        final Class<?> bukkitType = bukkitEntityMethod.getReturnType();
                         if (Player.class.isAssignableFrom(bukkitType)) {
-                            if (this.players != null) {
+                            if (players != null) {
                                 throw new IllegalStateException();
                             }
-                            this.players = method;
+                            players = method;
                         } else {
-                            if (this.entities != null) {
+                            if (entities != null) {
                                 throw new IllegalStateException();
                             }
-                            this.entities = method;
+                            entities = method;
                         }
                     } else if (returnType != Void.TYPE) {
-                        final @Nullable Method getBukkitEntity = findGetBukkitEntityMethod(returnType);
-                        if (getBukkitEntity == null) {
+                        final @Nullable Method bukkitEntityMethod = findGetBukkitEntityMethod(returnType);
+                        if (bukkitEntityMethod == null) {
                             continue;
                         }
-                        final Class<?> bukkitType = getBukkitEntity.getReturnType();
+                        final Class<?> bukkitType = bukkitEntityMethod.getReturnType();
                         if (Player.class.isAssignableFrom(bukkitType)) {
-                            if (this.player != null) {
+                            if (player != null) {
                                 throw new IllegalStateException();
                             }
-                            this.player = method;
+                            player = method;
                         } else {
-                            if (this.entity != null || this.getBukkitEntity != null) {
+                            if (entity != null || getBukkitEntity != null) {
                                 throw new IllegalStateException();
                             }
-                            this.entity = method;
-                            this.getBukkitEntity = getBukkitEntity;
+                            entity = method;
+                            getBukkitEntity = bukkitEntityMethod;
                         }
                     }
                 }
-                Objects.requireNonNull(this.getBukkitEntity, "Failed to locate getBukkitEntity method");
-                Objects.requireNonNull(this.player, "Failed to locate findPlayer method");
-                Objects.requireNonNull(this.entity, "Failed to locate findEntity method");
-                Objects.requireNonNull(this.players, "Failed to locate findPlayers method");
-                Objects.requireNonNull(this.entities, "Failed to locate findEntities method");
+                Objects.requireNonNull(getBukkitEntity, "Failed to locate getBukkitEntity method");
+                Objects.requireNonNull(player, "Failed to locate findPlayer method");
+                Objects.requireNonNull(entity, "Failed to locate findEntity method");
+                Objects.requireNonNull(players, "Failed to locate findPlayers method");
+                Objects.requireNonNull(entities, "Failed to locate findEntities method");
+
+                final MethodType selectType = MethodType.methodType(Object.class, Object.class, Object.class);
+                try {
+                    this.getBukkitEntity = CraftBukkitReflection.unreflect(getBukkitEntity)
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                    this.entity = CraftBukkitReflection.unreflect(entity).asType(selectType);
+                    this.player = CraftBukkitReflection.unreflect(player).asType(selectType);
+                    this.entities = CraftBukkitReflection.unreflect(entities).asType(selectType);
+                    this.players = CraftBukkitReflection.unreflect(players).asType(selectType);
+                } catch (final IllegalAccessException ex) {
+                    throw new RuntimeException(ex);
+                }
             }
 
             private static @Nullable Method findGetBukkitEntityMethod(final Class<?> returnType) {
@@ -453,56 +548,72 @@ final class SelectorUtils {
         }
 
         Entity singleEntity() {
-            return reflectiveOperation(() -> (Entity) this.methods().getBukkitEntity.invoke(this.methods().entity.invoke(
+            final Methods methods = this.methods();
+            final Entity entity = (Entity) invoke(() -> methods.getBukkitEntity.invoke(methods.entity.invoke(
                     this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
+                    WrappedBrigadierParser.<Object>nativeSender(this.commandContext)
             )));
+            CommandRegions.declare(this.commandContext, entity);
+            return entity;
         }
 
         Player singlePlayer() {
-            return reflectiveOperation(() -> (Player) this.methods().getBukkitEntity.invoke(this.methods().player.invoke(
+            final Methods methods = this.methods();
+            final Player player = (Player) invoke(() -> methods.getBukkitEntity.invoke(methods.player.invoke(
                     this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
+                    WrappedBrigadierParser.<Object>nativeSender(this.commandContext)
             )));
+            CommandRegions.declare(this.commandContext, player);
+            return player;
         }
 
-        @SuppressWarnings("unchecked")
         List<Entity> entities() {
-            final List<Object> internalEntities = reflectiveOperation(() -> ((List<Object>) this.methods().entities.invoke(
+            final Methods methods = this.methods();
+            final List<?> internalEntities = (List<?>) invoke(() -> methods.entities.invoke(
                     this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
-            return internalEntities.stream()
-                    .map(o -> reflectiveOperation(() -> (Entity) this.methods().getBukkitEntity.invoke(o)))
-                    .collect(Collectors.toList());
+                    WrappedBrigadierParser.<Object>nativeSender(this.commandContext)
+            ));
+            return toBukkit(internalEntities, methods.getBukkitEntity);
         }
 
-        @SuppressWarnings("unchecked")
         List<Player> players() {
-            final List<Object> serverPlayers = reflectiveOperation(() -> ((List<Object>) this.methods().players.invoke(
+            final Methods methods = this.methods();
+            final List<?> serverPlayers = (List<?>) invoke(() -> methods.players.invoke(
                     this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
-            return serverPlayers.stream()
-                    .map(o -> reflectiveOperation(() -> (Player) this.methods().getBukkitEntity.invoke(o)))
-                    .collect(Collectors.toList());
+                    WrappedBrigadierParser.<Object>nativeSender(this.commandContext)
+            ));
+            return toBukkit(serverPlayers, methods.getBukkitEntity);
+        }
+
+        // Converted eagerly, getBukkitEntity may create the Bukkit entity and should run on the thread evaluating the selector.
+        // The list stays mutable, like the lists returned before the conversion used method handles.
+        @SuppressWarnings("unchecked")
+        private static <T> List<T> toBukkit(final List<?> internal, final MethodHandle getBukkitEntity) {
+            final List<T> result = new ArrayList<>(internal.size());
+            try {
+                for (final Object internalEntity : internal) {
+                    result.add((T) getBukkitEntity.invoke(internalEntity));
+                }
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+            return result;
         }
 
         @FunctionalInterface
-        interface ReflectiveOperation<T> {
+        interface HandleOperation {
 
-            T run() throws ReflectiveOperationException;
+            Object run() throws Throwable;
         }
 
-        private static <T> T reflectiveOperation(final ReflectiveOperation<T> op) {
+        private static Object invoke(final HandleOperation op) {
             try {
                 return op.run();
-            } catch (final InvocationTargetException ex) {
-                if (ex.getCause() instanceof CommandSyntaxException) {
-                    throw rethrow(ex.getCause());
-                }
-                throw new RuntimeException(ex);
-            } catch (final ReflectiveOperationException ex) {
+            } catch (final CommandSyntaxException | RuntimeException | Error ex) {
+                throw rethrow(ex);
+            } catch (final Throwable ex) {
                 throw new RuntimeException(ex);
             }
         }
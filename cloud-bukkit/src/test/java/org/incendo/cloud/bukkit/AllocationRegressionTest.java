@@ -0,0 +1,200 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import java.util.Collections;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.brigadier.util.AllocationMeter;
+import org.incendo.cloud.brigadier.util.TestCommandManager;
+import org.incendo.cloud.bukkit.parser.MaterialParser;
+import org.incendo.cloud.bukkit.parser.WorldParser;
+import org.incendo.cloud.bukkit.parser.location.LocationParser;
+import org.incendo.cloud.bukkit.util.ServerTest;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.incendo.cloud.bukkit.parser.WorldParser.worldParser;
+import static org.incendo.cloud.bukkit.parser.location.LocationParser.locationParser;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the allocation rate of the Bukkit parse, suggestion and execution paths, in bytes per operation after
+ * warmup, and publishes it as a test report entry.
+ *
+ * <p>Nothing is asserted yet. Budgets are only to be added from numbers measured on CI, with a stated margin and the
+ * JVM and flags used.</p>
+ *
+ * <p>The server mocks are stub-only, regular mocks record every invocation and would dominate the measurement.</p>
+ */
+class AllocationRegressionTest extends ServerTest {
+
+    private final Server server = mock(Server.class, withSettings().stubOnly());
+    private CommandSender commandSender;
+    private TestCommandManager<CommandSender> commandManager;
+    private CommandContext<CommandSender> commandContext;
+
+    @Override
+    protected @NonNull Server server() {
+        return this.server;
+    }
+
+    @BeforeEach
+    void setup() {
+        final World world = mock(World.class, withSettings().stubOnly());
+        when(world.getName()).thenReturn("world");
+        when(this.server.getWorld("world")).thenReturn(world);
+        when(this.server.getWorlds()).thenReturn(Collections.singletonList(world));
+
+        this.commandSender = mock(CommandSender.class, withSettings().stubOnly());
+        this.commandManager = new TestCommandManager<>();
+        this.commandManager.command(this.commandManager.commandBuilder("tp")
+                .required("world", worldParser())
+                .required("location", locationParser()));
+        this.commandContext = new StandardCommandContextFactory<>(this.commandManager).create(false, this.commandSender);
+        this.commandContext.set(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, this.commandSender);
+    }
+
+    @Test
+    void testWorldParse(final @NonNull TestReporter reporter) {
+        // Arrange
+        final WorldParser<CommandSender> parser = new WorldParser<>();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> parser.parse(this.commandContext, CommandInput.of("world"))
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testMaterialParse(final @NonNull TestReporter reporter) {
+        // Arrange
+        final MaterialParser<CommandSender> parser = new MaterialParser<>();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> parser.parse(this.commandContext, CommandInput.of("stone"))
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testLocationParse(final @NonNull TestReporter reporter) {
+        // Arrange
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(() -> {
+            final Location location = parser.parse(this.commandContext, CommandInput.of("~1 ~2 ~3"))
+                    .parsedValue()
+                    .orElseThrow(IllegalStateException::new);
+            location.getX();
+        });
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testWorldSuggestions(final @NonNull TestReporter reporter) {
+        // Arrange
+        final WorldParser<CommandSender> parser = new WorldParser<>();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> parser.suggestions(this.commandContext, CommandInput.of("wo"))
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testMaterialSuggestions(final @NonNull TestReporter reporter) {
+        // Arrange
+        final MaterialParser<CommandSender> parser = new MaterialParser<>();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> parser.suggestions(this.commandContext, CommandInput.of("st"))
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testLocationSuggestions(final @NonNull TestReporter reporter) {
+        // Arrange
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> parser.suggestions(this.commandContext, CommandInput.of("~1 ~"))
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testCommandSuggestions(final @NonNull TestReporter reporter) {
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> this.commandManager.suggestionFactory().suggestImmediately(this.commandSender, "tp world ~")
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+
+    @Test
+    void testCommandExecution(final @NonNull TestReporter reporter) {
+        // Act
+        final long allocated = AllocationMeter.bytesPerOperation(
+                () -> this.commandManager.commandExecutor().executeCommand(
+                        this.commandSender,
+                        "tp world ~1 ~2 ~3",
+                        context -> context.store(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, this.commandSender)
+                ).join()
+        );
+
+        // Report
+        reporter.publishEntry("bytesPerOperation", Long.toString(allocated));
+    }
+}
@@ -0,0 +1,174 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MainThreadExecutorTest {
+
+    @Mock
+    private Plugin plugin;
+
+    @Mock
+    private Server server;
+
+    @Mock
+    private BukkitScheduler scheduler;
+
+    private MainThreadExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        when(this.plugin.getServer()).thenReturn(this.server);
+        this.executor = new MainThreadExecutor(this.plugin);
+    }
+
+    @Test
+    void testRunsImmediatelyOnMainThread() {
+        // Arrange
+        when(this.server.isPrimaryThread()).thenReturn(true);
+        final List<Integer> ran = new ArrayList<>();
+
+        // Act
+        this.executor.execute(() -> ran.add(1));
+
+        // Assert
+        assertThat(ran).containsExactly(1);
+        verify(this.server, never()).getScheduler();
+    }
+
+    @Test
+    void testBatchesOffThreadTasks() {
+        // Arrange
+        when(this.server.isPrimaryThread()).thenReturn(false);
+        when(this.server.getScheduler()).thenReturn(this.scheduler);
+        final List<Integer> ran = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            final int task = i;
+            this.executor.execute(() -> ran.add(task));
+        }
+        this.drainTask().run();
+
+        // Assert
+        assertThat(ran).containsExactly(0, 1, 2).inOrder();
+    }
+
+    @Test
+    void testTickBudget() {
+        // Arrange
+        when(this.server.isPrimaryThread()).thenReturn(false);
+        when(this.server.getScheduler()).thenReturn(this.scheduler);
+        this.executor.tickBudget(1L);
+        final List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final int task = i;
+            this.executor.execute(() -> ran.add(task));
+        }
+        final Runnable drainTask = this.drainTask();
+
+        // Act
+        drainTask.run();
+        final List<Integer> firstTick = new ArrayList<>(ran);
+        drainTask.run();
+        drainTask.run();
+
+        // Assert
+        assertThat(firstTick).containsExactly(0);
+        assertThat(ran).containsExactly(0, 1, 2).inOrder();
+        verify(this.scheduler, times(3)).runTask(eq(this.plugin), any(Runnable.class));
+    }
+
+    @Test
+    void testSchedulesDrainOnlyWhileQueued() {
+        // Arrange
+        when(this.server.isPrimaryThread()).thenReturn(false);
+        when(this.server.getScheduler()).thenReturn(this.scheduler);
+        final List<Integer> ran = new ArrayList<>();
+
+        // Act
+        this.executor.execute(() -> ran.add(0));
+        this.executor.execute(() -> ran.add(1));
+        this.drainTask().run();
+        this.executor.execute(() -> ran.add(2));
+
+        // Assert
+        assertThat(ran).containsExactly(0, 1).inOrder();
+        verify(this.scheduler, times(2)).runTask(eq(this.plugin), any(Runnable.class));
+    }
+
+    @Test
+    void testLogsThrowingTasks() {
+        // Arrange
+        when(this.server.isPrimaryThread()).thenReturn(false);
+        when(this.server.getScheduler()).thenReturn(this.scheduler);
+        final Logger logger = Mockito.mock(Logger.class);
+        when(this.plugin.getLogger()).thenReturn(logger);
+        final AssertionError error = new AssertionError("task failed");
+        final List<Integer> ran = new ArrayList<>();
+        this.executor.execute(() -> {
+            throw error;
+        });
+        this.executor.execute(() -> ran.add(1));
+
+        // Act
+        this.drainTask().run();
+
+        // Assert
+        assertThat(ran).containsExactly(1);
+        verify(logger).log(eq(Level.SEVERE), anyString(), eq(error));
+    }
+
+    private Runnable drainTask() {
+        final ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler, atLeastOnce()).runTask(eq(this.plugin), captor.capture());
+        final List<Runnable> drains = captor.getAllValues();
+        return drains.get(drains.size() - 1);
+    }
+}
@@ -0,0 +1,162 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.incendo.cloud.bukkit.util.ServerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.MockMakers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@SuppressWarnings("unchecked")
+class RawInputDispatchListenerTest extends ServerTest {
+
+    private final Map<String, BukkitCommand<CommandSender>> commands = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private BukkitCommand<CommandSender> command;
+    private RawInputDispatchListener<CommandSender> listener;
+
+    @BeforeEach
+    void setup() {
+        /* BukkitCommand is final */
+        this.command = mock(BukkitCommand.class, withSettings().mockMaker(MockMakers.INLINE));
+        this.commands.put("foo", this.command);
+        this.commands.put("f", this.command);
+        this.commands.put("plugin:foo", this.command);
+        this.commands.put("plugin:f", this.command);
+        this.listener = new RawInputDispatchListener<>(this.commands::get);
+    }
+
+    @Test
+    void testRecognizedLabel() {
+        // Arrange
+        when(this.command.rootName()).thenReturn("foo");
+        final Player player = mock(Player.class);
+        final PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(player, "/foo bar");
+
+        // Act
+        this.listener.onPlayerCommand(event);
+
+        // Assert
+        assertThat(event.isCancelled()).isTrue();
+        verify(this.command).dispatch(player, "foo bar");
+    }
+
+    @Test
+    void testUnrecognizedLabel() {
+        // Arrange
+        final Player player = mock(Player.class);
+        final PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(player, "/other bar");
+
+        // Act
+        this.listener.onPlayerCommand(event);
+
+        // Assert
+        assertThat(event.isCancelled()).isFalse();
+        verify(this.command, never()).dispatch(any(), anyString());
+    }
+
+    @Test
+    void testEmptyLabel() {
+        // Arrange
+        final Player player = mock(Player.class);
+        final PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(player, "/ foo");
+
+        // Act
+        this.listener.onPlayerCommand(event);
+
+        // Assert
+        assertThat(event.isCancelled()).isFalse();
+        verify(this.command, never()).dispatch(any(), anyString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("aliasedLabels")
+    void testAliasedLabel(final String rawInput, final String expectedInput) {
+        // Arrange
+        when(this.command.rootName()).thenReturn("foo");
+        final CommandSender sender = mock(CommandSender.class);
+        final ServerCommandEvent event = new ServerCommandEvent(sender, rawInput);
+
+        // Act
+        this.listener.onServerCommand(event);
+
+        // Assert
+        assertThat(event.isCancelled()).isTrue();
+        verify(this.command).dispatch(sender, expectedInput);
+    }
+
+    static Stream<Arguments> aliasedLabels() {
+        return Stream.of(
+                Arguments.of("plugin:foo bar", "foo bar"),
+                Arguments.of("PLUGIN:FOO bar", "foo bar"),
+                Arguments.of("plugin:f bar", "foo bar"),
+                Arguments.of("f bar", "foo bar"),
+                Arguments.of("/plugin:foo", "foo")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("whitespaceInputs")
+    void testWhitespaceIsPreserved(final String rawInput, final String expectedInput) {
+        // Arrange
+        when(this.command.rootName()).thenReturn("foo");
+        final Player player = mock(Player.class);
+        final PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(player, rawInput);
+
+        // Act
+        this.listener.onPlayerCommand(event);
+
+        // Assert
+        verify(this.command).dispatch(player, expectedInput);
+    }
+
+    static Stream<Arguments> whitespaceInputs() {
+        return Stream.of(
+                /* Greedy */
+                Arguments.of("/foo say  hello   world ", "foo say  hello   world "),
+                Arguments.of("/plugin:foo say  hello   world ", "foo say  hello   world "),
+                /* Quoted */
+                Arguments.of("/foo \"a  b\"  c", "foo \"a  b\"  c"),
+                Arguments.of("/f '  a b'", "foo '  a b'")
+        );
+    }
+}
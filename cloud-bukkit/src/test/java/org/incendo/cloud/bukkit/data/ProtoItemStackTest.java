@@ -0,0 +1,119 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.data;
+
+import java.util.List;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProtoItemStackTest {
+
+    private StubProtoItemStack protoItemStack;
+
+    @BeforeEach
+    void setup() {
+        this.protoItemStack = new StubProtoItemStack();
+    }
+
+    @Test
+    void CreateItemStacks_NegativeCount_Throws() {
+        // Act
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> this.protoItemStack.createItemStacks(-1, 1, true)
+        );
+
+        // Assert
+        assertThat(exception).hasMessageThat().contains("-1");
+        assertThat(this.protoItemStack.created).isEqualTo(0);
+    }
+
+    @Test
+    void CreateItemStacks_ZeroCount_Empty() {
+        // Act
+        final List<ItemStack> stacks = this.protoItemStack.createItemStacks(0, 1, true);
+
+        // Assert
+        assertThat(stacks).isEmpty();
+        assertThat(this.protoItemStack.created).isEqualTo(0);
+    }
+
+    @Test
+    void CreateItemStacks_MutatedStack_OthersUnchanged() {
+        // Act
+        final List<ItemStack> stacks = this.protoItemStack.createItemStacks(3, 16, true);
+        stacks.get(0).setAmount(1);
+        stacks.get(1).setType(Material.DIRT);
+
+        // Assert
+        assertThat(this.protoItemStack.created).isEqualTo(1);
+        assertThat(stacks).hasSize(3);
+        assertThat(stacks.get(0).getAmount()).isEqualTo(1);
+        assertThat(stacks.get(0).getType()).isEqualTo(Material.STONE);
+        assertThat(stacks.get(1).getAmount()).isEqualTo(16);
+        assertThat(stacks.get(1).getType()).isEqualTo(Material.DIRT);
+        assertThat(stacks.get(2).getAmount()).isEqualTo(16);
+        assertThat(stacks.get(2).getType()).isEqualTo(Material.STONE);
+    }
+
+    @Test
+    void CreateItemStacks_StackSizeAboveMaximum_Throws() {
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> this.protoItemStack.createItemStacks(2, 65, true));
+
+        // Assert
+        assertThat(this.protoItemStack.created).isEqualTo(0);
+    }
+
+
+    private static final class StubProtoItemStack implements ProtoItemStack {
+
+        private int created;
+
+        @Override
+        public @NonNull Material material() {
+            return Material.STONE;
+        }
+
+        @Override
+        public boolean hasExtraData() {
+            return false;
+        }
+
+        @Override
+        public @NonNull ItemStack createItemStack(final int stackSize, final boolean respectMaximumStackSize) {
+            if (respectMaximumStackSize && stackSize > this.material().getMaxStackSize()) {
+                throw new IllegalArgumentException("Stack size above maximum: " + stackSize);
+            }
+            this.created++;
+            return new ItemStack(this.material(), stackSize);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.parser.WorldParser;
+import org.incendo.cloud.bukkit.util.ServerTest;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorldIndexTest extends ServerTest {
+
+    @Mock
+    private Plugin plugin;
+
+    @Mock
+    private Plugin otherPlugin;
+
+    @Mock
+    private PluginManager pluginManager;
+
+    @AfterEach
+    void resetIndex() throws Exception {
+        synchronized (WorldIndex.class) {
+            final Field tracking = WorldIndex.class.getDeclaredField("TRACKING");
+            tracking.setAccessible(true);
+            ((List<?>) tracking.get(null)).clear();
+            final Field snapshot = WorldIndex.class.getDeclaredField("snapshot");
+            snapshot.setAccessible(true);
+            snapshot.set(null, null);
+        }
+    }
+
+    @Test
+    void Track_LoadedWorlds_IndexedIgnoringCase() {
+        // Arrange
+        final World world = world("world");
+        final World nether = world("world_nether");
+        final World lobby = world("Lobby");
+        this.stubServer(this.plugin);
+        when(this.server().getWorlds()).thenReturn(Arrays.asList(world, nether, lobby));
+
+        // Act
+        WorldIndex.track(this.plugin);
+
+        // Assert
+        assertThat(WorldIndex.world("WORLD")).isSameInstanceAs(world);
+        assertThat(WorldIndex.world("lobby")).isSameInstanceAs(lobby);
+        assertThat(WorldIndex.world("missing")).isNull();
+        assertThat(WorldIndex.names("")).containsExactly("Lobby", "world", "world_nether").inOrder();
+        assertThat(WorldIndex.names("WORLD_")).containsExactly("world_nether");
+        assertThat(WorldIndex.names("l")).containsExactly("Lobby");
+        assertThat(WorldIndex.keysIndexed()).isFalse();
+        verify(this.server(), never()).getWorld(any(String.class));
+    }
+
+    @Test
+    void WorldLoadEvent_LoadedWorld_Indexed() {
+        // Arrange
+        final World world = world("world");
+        final World lobby = world("lobby");
+        this.stubServer(this.plugin);
+        when(this.server().getWorlds()).thenReturn(Collections.singletonList(world), Arrays.asList(world, lobby));
+        WorldIndex.track(this.plugin);
+        final WorldIndex.IndexListener listener = this.listener(this.plugin);
+
+        // Act
+        listener.onWorldLoad(new WorldLoadEvent(lobby));
+
+        // Assert
+        assertThat(WorldIndex.world("lobby")).isSameInstanceAs(lobby);
+        assertThat(WorldIndex.names("")).containsExactly("lobby", "world").inOrder();
+    }
+
+    @Test
+    void WorldUnloadEvent_UnloadedWorld_Removed() {
+        // Arrange
+        final World world = world("world");
+        final World lobby = world("lobby");
+        this.stubServer(this.plugin);
+        // The unloaded world is still loaded while the event is called
+        when(this.server().getWorlds()).thenReturn(Arrays.asList(world, lobby));
+        WorldIndex.track(this.plugin);
+        final WorldIndex.IndexListener listener = this.listener(this.plugin);
+
+        // Act
+        listener.onWorldUnload(new WorldUnloadEvent(lobby));
+
+        // Assert
+        assertThat(WorldIndex.world("lobby")).isNull();
+        assertThat(WorldIndex.names("")).containsExactly("world");
+    }
+
+    @Test
+    void Track_AlreadyTracked_DoesNotRegisterListener() {
+        // Arrange
+        this.stubServer(this.plugin);
+        when(this.server().getWorlds()).thenReturn(Collections.emptyList());
+        WorldIndex.track(this.plugin);
+
+        // Act
+        WorldIndex.track(this.otherPlugin);
+
+        // Assert
+        verify(this.pluginManager).registerEvents(any(Listener.class), eq(this.plugin));
+        verify(this.pluginManager, never()).registerEvents(any(Listener.class), eq(this.otherPlugin));
+    }
+
+    @Test
+    void PluginDisableEvent_TrackingPluginDisabled_HandsOverTracking() {
+        // Arrange
+        final World world = world("world");
+        final World lobby = world("lobby");
+        this.stubServer(this.plugin);
+        this.stubServer(this.otherPlugin);
+        when(this.server().getWorlds()).thenReturn(
+                Collections.singletonList(world),
+                Collections.singletonList(world),
+                Arrays.asList(world, lobby)
+        );
+        WorldIndex.track(this.plugin);
+        WorldIndex.track(this.otherPlugin);
+
+        // Act
+        this.listener(this.plugin).onPluginDisable(new PluginDisableEvent(this.plugin));
+        final WorldIndex.IndexListener listener = this.listener(this.otherPlugin);
+        listener.onWorldLoad(new WorldLoadEvent(lobby));
+
+        // Assert
+        assertThat(WorldIndex.world("WORLD")).isSameInstanceAs(world);
+        assertThat(WorldIndex.world("lobby")).isSameInstanceAs(lobby);
+        verify(this.server(), never()).getWorld(any(String.class));
+    }
+
+    @Test
+    void PluginDisableEvent_LastTrackingPluginDisabled_LooksUpThroughBukkit() {
+        // Arrange
+        final World world = world("world");
+        this.stubServer(this.plugin);
+        when(this.server().getWorlds()).thenReturn(Collections.singletonList(world));
+        when(this.server().getWorld("world")).thenReturn(world);
+        WorldIndex.track(this.plugin);
+        WorldIndex.track(this.otherPlugin);
+        final WorldIndex.IndexListener listener = this.listener(this.plugin);
+
+        // Act
+        listener.onPluginDisable(new PluginDisableEvent(this.otherPlugin));
+        listener.onPluginDisable(new PluginDisableEvent(this.plugin));
+
+        // Assert
+        assertThat(WorldIndex.world("world")).isSameInstanceAs(world);
+        verify(this.pluginManager, never()).registerEvents(any(Listener.class), eq(this.otherPlugin));
+    }
+
+    @Test
+    void WorldParser_TrackedWorlds_ParsesAndSuggestsFromIndex() {
+        // Arrange
+        final World world = world("world");
+        final World lobby = world("Lobby");
+        this.stubServer(this.plugin);
+        when(this.server().getWorlds()).thenReturn(Arrays.asList(world, lobby));
+        WorldIndex.track(this.plugin);
+        final WorldParser<CommandSender> parser = new WorldParser<>();
+        final CommandInput commandInput = CommandInput.of("LOBBY");
+
+        // Act
+        final ArgumentParseResult<World> result = parser.parse(this.commandContext(), commandInput);
+        final Iterable<String> suggestions = parser.stringSuggestions(this.commandContext(), CommandInput.of("w"));
+
+        // Assert
+        assertThat(result.parsedValue()).hasValue(lobby);
+        assertThat(commandInput.remainingInput()).isEmpty();
+        assertThat(suggestions).containsExactly("world");
+        verify(this.server(), never()).getWorld(any(String.class));
+    }
+
+    private void stubServer(final @NonNull Plugin plugin) {
+        when(plugin.getServer()).thenReturn(this.server());
+        when(this.server().getPluginManager()).thenReturn(this.pluginManager);
+    }
+
+    private WorldIndex.@NonNull IndexListener listener(final @NonNull Plugin plugin) {
+        final ArgumentCaptor<Listener> listener = ArgumentCaptor.forClass(Listener.class);
+        verify(this.pluginManager).registerEvents(listener.capture(), eq(plugin));
+        return (WorldIndex.IndexListener) listener.getValue();
+    }
+
+    private static @NonNull World world(final @NonNull String name) {
+        final World world = mock(World.class);
+        when(world.getName()).thenReturn(name);
+        return world;
+    }
+}
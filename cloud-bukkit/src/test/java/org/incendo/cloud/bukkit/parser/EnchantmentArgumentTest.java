@@ -26,11 +26,14 @@ package org.incendo.cloud.bukkit.parser;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
 import org.bukkit.enchantments.Enchantment;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.internal.EnchantmentIndex;
 import org.incendo.cloud.bukkit.util.ServerTest;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
@@ -39,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -50,25 +54,13 @@ class EnchantmentArgumentTest extends ServerTest {
 
     @BeforeAll
     static void setupEnchantments() throws Exception {
-        final Field keyField = Enchantment.class.getDeclaredField("key");
-        keyField.setAccessible(true);
-
         for (final Field field : Enchantment.class.getDeclaredFields()) {
             if (Modifier.isStatic(field.getModifiers()) && field.getType().isAssignableFrom(Enchantment.class)) {
-                final Enchantment mockEnchantment = Mockito.mock(Enchantment.class);
-                final NamespacedKey enchantmentKey = ((Enchantment) field.get(null)).getKey();
-                when(mockEnchantment.getKey()).thenReturn(enchantmentKey);
-                when(mockEnchantment.getName()).thenReturn(enchantmentKey.getKey());
-
-                // Bukkit is bad and accesses this field directly, so we cannot just mock "getKey" but we must also override
-                // the inner key.
-                keyField.set(mockEnchantment, enchantmentKey);
-                try {
-                    Enchantment.registerEnchantment(mockEnchantment);
-                } catch (final Exception ignored) {
-                }
+                registerEnchantment(((Enchantment) field.get(null)).getKey());
             }
         }
+        // Another test may have built the index before the enchantments were registered
+        EnchantmentIndex.invalidate();
     }
 
     @ParameterizedTest
@@ -98,6 +90,83 @@ class EnchantmentArgumentTest extends ServerTest {
                 );
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "SHARPNESS", "Sharpness", "Minecraft:Sharpness" })
+    void Parse_UpperCaseKey_Failure(final @NonNull String input) {
+        // Arrange
+        final EnchantmentParser<CommandSender> parser = new EnchantmentParser<>();
+        final CommandInput commandInput = CommandInput.of(input);
+
+        // Act
+        final ArgumentParseResult<Enchantment> result = parser.parse(
+                this.commandContext(),
+                commandInput
+        );
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+        assertThat(result.parsedValue()).isEmpty();
+    }
+
+    @Test
+    void Parse_RegisteredAfterIndexBuilt_AddedToIndexOnce() throws Exception {
+        // Arrange
+        EnchantmentIndex.invalidate();
+        EnchantmentIndex.get();
+        final Enchantment late = registerEnchantment(NamespacedKey.minecraft("cloud_late"));
+        final EnchantmentParser<CommandSender> parser = new EnchantmentParser<>();
+
+        // Act
+        final ArgumentParseResult<Enchantment> first = parser.parse(this.commandContext(), CommandInput.of("cloud_late"));
+        final EnchantmentIndex index = EnchantmentIndex.get();
+        final ArgumentParseResult<Enchantment> second = parser.parse(this.commandContext(), CommandInput.of("cloud_late"));
+
+        // Assert
+        assertThat(first.parsedValue()).hasValue(late);
+        assertThat(second.parsedValue()).hasValue(late);
+        assertThat(EnchantmentIndex.get()).isSameInstanceAs(index);
+        assertThat(index.enchantment("minecraft:cloud_late")).isSameInstanceAs(late);
+        assertThat(parser.stringSuggestions(this.commandContext(), CommandInput.of("cloud"))).containsExactly("cloud_late");
+    }
+
+    @ParameterizedTest
+    @MethodSource("Suggestions_Prefix_Source")
+    void Suggestions_Prefix(final @NonNull String input, final @NonNull List<@NonNull String> expectedSuggestions) {
+        // Arrange
+        final EnchantmentParser<CommandSender> parser = new EnchantmentParser<>();
+
+        // Act
+        final Iterable<String> suggestions = parser.stringSuggestions(this.commandContext(), CommandInput.of(input));
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expectedSuggestions).inOrder();
+    }
+
+    static @NonNull Stream<@NonNull Arguments> Suggestions_Prefix_Source() {
+        return Stream.of(
+                arguments("sha", Collections.singletonList("sharpness")),
+                arguments("Sha", Collections.singletonList("sharpness")),
+                arguments("SHARPNESS", Collections.singletonList("sharpness")),
+                arguments("minecraft:sha", Collections.singletonList("minecraft:sharpness")),
+                arguments("Minecraft:Sha", Collections.singletonList("minecraft:sharpness")),
+                arguments("unknown", Collections.emptyList())
+        );
+    }
+
+    @Test
+    void Suggestions_NoPrefix_SuggestsAllWithoutMinecraftNamespace() {
+        // Arrange
+        final EnchantmentParser<CommandSender> parser = new EnchantmentParser<>();
+
+        // Act
+        final Iterable<String> suggestions = parser.stringSuggestions(this.commandContext(), CommandInput.of(""));
+
+        // Assert
+        assertThat(suggestions).hasSize(Enchantment.values().length);
+        assertThat(suggestions).contains("sharpness");
+        assertThat(suggestions).isInOrder();
+    }
+
     @Test
     void Parse_NonExistentEnchantment_Failure() {
         // Arrange
@@ -114,4 +183,22 @@ class EnchantmentArgumentTest extends ServerTest {
         assertThat(result.failure()).isPresent();
         assertThat(result.parsedValue()).isEmpty();
     }
+
+    private static @NonNull Enchantment registerEnchantment(final @NonNull NamespacedKey enchantmentKey) throws Exception {
+        final Field keyField = Enchantment.class.getDeclaredField("key");
+        keyField.setAccessible(true);
+
+        final Enchantment mockEnchantment = Mockito.mock(Enchantment.class);
+        when(mockEnchantment.getKey()).thenReturn(enchantmentKey);
+        when(mockEnchantment.getName()).thenReturn(enchantmentKey.getKey());
+
+        // Bukkit is bad and accesses this field directly, so we cannot just mock "getKey" but we must also override
+        // the inner key.
+        keyField.set(mockEnchantment, enchantmentKey);
+        try {
+            Enchantment.registerEnchantment(mockEnchantment);
+        } catch (final Exception ignored) {
+        }
+        return mockEnchantment;
+    }
 }
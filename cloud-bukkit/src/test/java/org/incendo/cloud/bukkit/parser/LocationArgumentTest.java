@@ -23,17 +23,25 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
 import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
 import org.incendo.cloud.bukkit.parser.location.LocationParser;
 import org.incendo.cloud.bukkit.util.ServerTest;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -42,6 +50,10 @@ import org.mockito.Mock;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LocationArgumentTest extends ServerTest {
@@ -83,6 +95,79 @@ class LocationArgumentTest extends ServerTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("Parse_LocalEntitySender_Success_Source")
+    void Parse_LocalEntitySender_Success(
+            final @NonNull String input,
+            final float yaw,
+            final float pitch,
+            final @NonNull Vector expectedLocation
+    ) {
+        // Arrange
+        final Entity entity = mock(Entity.class);
+        when(entity.getLocation(any(Location.class))).thenAnswer(invocation -> {
+            final Location location = invocation.getArgument(0);
+            location.setWorld(this.world);
+            location.setX(10);
+            location.setY(64);
+            location.setZ(-5);
+            location.setYaw(yaw);
+            location.setPitch(pitch);
+            return location;
+        });
+        this.commandContext().set(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, entity);
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+        final CommandInput commandInput = CommandInput.of(input);
+
+        // Act
+        final ArgumentParseResult<Location> result = parser.parse(
+                this.commandContext(),
+                commandInput
+        );
+
+        // Assert
+        assertThat(result.failure()).isEmpty();
+        final Location location = result.parsedValue().orElseThrow(IllegalStateException::new);
+        assertThat(location.getWorld()).isSameInstanceAs(this.world);
+        assertThat(location.getX()).isWithin(1.0E-4).of(expectedLocation.getX());
+        assertThat(location.getY()).isWithin(1.0E-4).of(expectedLocation.getY());
+        assertThat(location.getZ()).isWithin(1.0E-4).of(expectedLocation.getZ());
+        assertThat(location.getYaw()).isEqualTo(yaw);
+        assertThat(location.getPitch()).isEqualTo(pitch);
+    }
+
+    static @NonNull Stream<@NonNull Arguments> Parse_LocalEntitySender_Success_Source() {
+        return Stream.of(
+                // Facing west, left is south
+                arguments("^1 ^2 ^3", 90F, 0F, new Vector(7, 66, -4)),
+                // Facing south and looking straight up, left is east and up is north
+                arguments("^1 ^2 ^3", 0F, -90F, new Vector(11, 67, -7)),
+                // Facing north and looking down at 45 degrees
+                arguments("^ ^ ^2", 180F, 45F, new Vector(10, 64 - Math.sqrt(2), -5 - Math.sqrt(2))),
+                arguments("^-1 ^ ^", 180F, 45F, new Vector(11, 64, -5)),
+                // Relative coordinates ignore the rotation
+                arguments("~1 ~2 ~3", 90F, 45F, new Vector(11, 66, -2))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "~ ~ ^1", "^1 ^ ~", "1 ^ 1" })
+    void Parse_MixedLocalCoordinates_Failure(final @NonNull String input) {
+        // Arrange
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+        final CommandInput commandInput = CommandInput.of(input);
+
+        // Act
+        final ArgumentParseResult<Location> result = parser.parse(
+                this.commandContext(),
+                commandInput
+        );
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+        assertThat(result.parsedValue()).isEmpty();
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { "0 0", "not a location" })
     void Parse_InvalidLocation_Failure(final @NonNull String input) {
@@ -100,4 +185,86 @@ class LocationArgumentTest extends ServerTest {
         assertThat(result.failure()).isPresent();
         assertThat(result.parsedValue()).isEmpty();
     }
+
+    @ParameterizedTest
+    @MethodSource("Suggestions_ConsoleSender_Source")
+    void Suggestions_ConsoleSender(final @NonNull String input, final @NonNull List<@NonNull String> expectedSuggestions) {
+        // Arrange
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+
+        // Act
+        final Iterable<String> suggestions = parser.stringSuggestions(this.commandContext(), CommandInput.of(input));
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expectedSuggestions).inOrder();
+    }
+
+    static @NonNull Stream<@NonNull Arguments> Suggestions_ConsoleSender_Source() {
+        return Stream.of(
+                arguments("", expected(digits("", 0), "~ ~ ~")),
+                arguments("~", expected(digits("~", 0), "~ ~ ~")),
+                // Local coordinates are only offered once they are being typed
+                arguments("^", expected(digits("^", 0), "^ ^ ^")),
+                // A minus sign can only continue with a non-zero digit
+                arguments("-", digits("-", 1)),
+                arguments("~-", digits("~-", 1)),
+                arguments("-4", expected(digits("-4", 0), "-4")),
+                // Leading zeros and numbers with nine digits are not continued
+                arguments("0", Collections.singletonList("0")),
+                arguments("~0", Collections.singletonList("~0")),
+                arguments("12345678", expected(digits("12345678", 0), "12345678")),
+                arguments("123456789", Collections.singletonList("123456789")),
+                // The earlier tokens of the position are kept
+                arguments("~ ~", expected(digits("~ ~", 0), "~ ~ ~")),
+                arguments("~ ~1", expected(digits("~ ~1", 0), "~ ~1")),
+                arguments("1 2 ~", expected(digits("1 2 ~", 0))),
+                arguments("not a number", Collections.emptyList())
+        );
+    }
+
+    @Test
+    void Suggestions_EntitySenderOnMainThread_SuggestsBlockPosition() {
+        // Arrange
+        final Entity entity = mock(Entity.class);
+        when(entity.getLocation()).thenReturn(new Location(this.world, 10.5, 64.2, -5.7));
+        when(this.server().isPrimaryThread()).thenReturn(true);
+        this.commandContext().set(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, entity);
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+
+        // Act
+        final Iterable<String> all = parser.stringSuggestions(this.commandContext(), CommandInput.of(""));
+        final Iterable<String> matching = parser.stringSuggestions(this.commandContext(), CommandInput.of("1"));
+
+        // Assert
+        assertThat(all).containsExactlyElementsIn(expected(digits("", 0), "~ ~ ~", "10 64 -6")).inOrder();
+        assertThat(matching).containsExactlyElementsIn(expected(digits("1", 0), "10 64 -6", "1")).inOrder();
+    }
+
+    @Test
+    void Suggestions_EntitySenderOffMainThread_DoesNotReadEntity() {
+        // Arrange
+        final Entity entity = mock(Entity.class);
+        this.commandContext().set(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, entity);
+        final LocationParser<CommandSender> parser = new LocationParser<>();
+
+        // Act
+        final Iterable<String> suggestions = parser.stringSuggestions(this.commandContext(), CommandInput.of(""));
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expected(digits("", 0), "~ ~ ~")).inOrder();
+        verify(entity, never()).getLocation();
+    }
+
+    private static @NonNull List<@NonNull String> expected(
+            final @NonNull List<@NonNull String> digits,
+            final @NonNull String... leading
+    ) {
+        final List<String> expected = new ArrayList<>(Arrays.asList(leading));
+        expected.addAll(digits);
+        return expected;
+    }
+
+    private static @NonNull List<@NonNull String> digits(final @NonNull String typed, final int from) {
+        return IntStream.rangeClosed(from, 9).mapToObj(digit -> typed + digit).collect(Collectors.toList());
+    }
 }
@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
+import java.util.Arrays;
 import org.bukkit.NamespacedKey;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.context.CommandContext;
@@ -115,4 +116,29 @@ class NamespacedKeyArgumentTest {
         assertThat(result.parsedValue()).hasValue(new NamespacedKey(NamespacedKey.MINECRAFT, "test"));
         assertThat(commandInput.remainingInput()).isEmpty();
     }
+
+    @Test
+    void Suggestions_KeysProvided_SuggestsMatchingKeys() {
+        // Arrange
+        final NamespacedKeyParser<Object> parser = new NamespacedKeyParser<>(
+                false /* requireExplicitNamespace */,
+                NamespacedKey.MINECRAFT,
+                () -> Arrays.asList(
+                        NamespacedKey.minecraft("stone"),
+                        NamespacedKey.minecraft("stone_bricks"),
+                        NamespacedKey.minecraft("dirt"),
+                        new NamespacedKey("cloud", "stone")
+                )
+        );
+
+        // Act
+        final Iterable<String> values = parser.stringSuggestions(this.commandContext, CommandInput.of("st"));
+        final Iterable<String> keys = parser.stringSuggestions(this.commandContext, CommandInput.of("minecraft:st"));
+        final Iterable<String> none = parser.stringSuggestions(this.commandContext, CommandInput.of("sand"));
+
+        // Assert
+        assertThat(values).containsExactly("stone", "stone_bricks");
+        assertThat(keys).containsExactly("minecraft:stone", "minecraft:stone_bricks");
+        assertThat(none).isEmpty();
+    }
 }
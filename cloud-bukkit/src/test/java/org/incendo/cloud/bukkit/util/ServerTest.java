@@ -32,6 +32,7 @@ import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -50,12 +51,24 @@ public abstract class ServerTest {
     private BukkitCommandManager<CommandSender> commandManager;
 
     private CommandContext<CommandSender> commandContext;
+    private Server previousServer;
 
     @BeforeEach
     void setupServer() throws Exception {
+        final Field field = serverField();
+        this.previousServer = (Server) field.get(null);
+        field.set(null, this.server());
+    }
+
+    @AfterEach
+    void restoreServer() throws Exception {
+        serverField().set(null, this.previousServer);
+    }
+
+    private static @NonNull Field serverField() throws NoSuchFieldException {
         final Field field = Bukkit.class.getDeclaredField("server");
         field.setAccessible(true);
-        field.set(null, this.server);
+        return field;
     }
 
     @BeforeEach
@@ -68,7 +81,10 @@ public abstract class ServerTest {
     }
 
     /**
-     * Returns the mocked server
+     * Returns the mocked server that is installed as the Bukkit server for the duration of each test.
+     *
+     * <p>Subclasses may override this to install a differently configured mock, which must be created before the
+     * {@link BeforeEach} methods run.</p>
      *
      * @return mocked server
      */
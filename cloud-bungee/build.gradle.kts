@@ -5,5 +5,7 @@ plugins {
 
 dependencies {
     api(libs.cloud.core)
+    api(projects.cloudMinecraftInstrumentation)
+    implementation(projects.cloudBrigadier)
     compileOnly(libs.bungeecord)
 }
@@ -23,20 +23,16 @@
 //
 package org.incendo.cloud.bungee;
 
-import io.leangen.geantyref.GenericTypeReflector;
-import java.lang.reflect.Type;
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.plugin.Command;
 import net.md_5.bungee.api.plugin.TabExecutor;
 import org.checkerframework.checker.nullness.qual.NonNull;
-import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.brigadier.internal.RootAccessRules;
 import org.incendo.cloud.component.CommandComponent;
-import org.incendo.cloud.internal.CommandNode;
-import org.incendo.cloud.permission.Permission;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.Suggestions;
 import org.incendo.cloud.util.StringUtils;
@@ -45,6 +41,7 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
 
     private final BungeeCommandManager<C> manager;
     private final CommandComponent<C> command;
+    private final RootAccessRules<C> accessRules;
 
     BungeeCommand(
             final org.incendo.cloud.@NonNull Command<C> cloudCommand,
@@ -58,6 +55,7 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
         );
         this.command = command;
         this.manager = manager;
+        this.accessRules = new RootAccessRules<>(manager, command.name());
     }
 
     @Override
@@ -68,31 +66,21 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
             builder.append(" ").append(string);
         }
         final C sender = this.manager.senderMapper().map(commandSender);
-        this.manager.commandExecutor().executeCommand(sender, builder.toString());
+        this.manager.commandExecutor().executeCommand(sender, builder.toString())
+                .whenComplete((result, failure) -> CommandMetrics.installed().recordFailure(failure));
+        CommandMetrics.installed().recordExecution(this.command.name());
     }
 
     @Override
     public boolean hasPermission(final CommandSender sender) {
-        final CommandNode<C> node = this.namedNode();
-        if (node == null) {
-            return false;
-        }
-
-        final Map<Type, Permission> accessMap =
-            node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
-        final C cloudSender = this.manager.senderMapper().map(sender);
-        for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
-            if (GenericTypeReflector.isSuperType(entry.getKey(), cloudSender.getClass())) {
-                if (this.manager.testPermission(cloudSender, entry.getValue()).allowed()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return this.accessRules.test(this.manager.senderMapper().map(sender));
     }
 
-    private @Nullable CommandNode<C> namedNode() {
-        return this.manager.commandTree().getNamedNode(this.command.name());
+    /**
+     * Drops the compiled access rules, called when the tree below the root command changes.
+     */
+    void invalidate() {
+        this.accessRules.invalidate();
     }
 
     @Override
@@ -100,6 +88,8 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
             final CommandSender sender,
             final String[] args
     ) {
+        final CommandMetrics metrics = CommandMetrics.installed();
+        final long start = metrics.time();
         final StringBuilder builder = new StringBuilder(this.command.name());
         for (final String string : args) {
             builder.append(" ").append(string);
@@ -108,10 +98,12 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
                 this.manager.senderMapper().map(sender),
                 builder.toString()
         );
-        return result.list().stream()
+        final List<String> suggestions = result.list().stream()
                 .map(Suggestion::suggestion)
                 .map(suggestion -> StringUtils.trimBeforeLastSpace(suggestion, result.commandInput()))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        metrics.recordSuggestions(metrics.time() - start);
+        return suggestions;
     }
 }
@@ -32,7 +32,7 @@ import org.incendo.cloud.internal.CommandRegistrationHandler;
 
 final class BungeePluginRegistrationHandler<C> implements CommandRegistrationHandler<C> {
 
-    private final Map<CommandComponent<C>, net.md_5.bungee.api.plugin.Command> registeredCommands = new HashMap<>();
+    private final Map<CommandComponent<C>, BungeeCommand<C>> registeredCommands = new HashMap<>();
 
     private BungeeCommandManager<C> bungeeCommandManager;
 
@@ -47,7 +47,10 @@ final class BungeePluginRegistrationHandler<C> implements CommandRegistrationHan
     public boolean registerCommand(final @NonNull Command<C> command) {
         /* We only care about the root command argument */
         final CommandComponent<C> component = command.rootComponent();
-        if (this.registeredCommands.containsKey(component)) {
+        final BungeeCommand<C> existing = this.registeredCommands.get(component);
+        if (existing != null) {
+            /* A command was added below an existing root, drop what was derived from its tree */
+            existing.invalidate();
             return false;
         }
         final BungeeCommand<C> bungeeCommand = new BungeeCommand<>(
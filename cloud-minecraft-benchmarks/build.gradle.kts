@@ -0,0 +1,24 @@
+plugins {
+    id("conventions.base")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.cloudBrigadier)
+    jmh(projects.cloudBukkit)
+    jmh(projects.cloudMinecraftInstrumentation)
+    jmh(libs.brigadier)
+    jmh(libs.bukkit)
+    jmh(libs.mockitoCore)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    /* Run a subset with: ./gradlew :cloud-minecraft-benchmarks:jmh -Pjmh.includes=TreeConstruction */
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
+/* Benchmarks are not part of the API, disable checkstyle like for tests */
+tasks.matching { it.name == "checkstyleJmh" }.configureEach {
+    enabled = false
+}
@@ -0,0 +1,157 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.minecraft.benchmarks.BenchmarkCommandManager;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the bridge between {@link CommandInput} and Brigadier's {@link StringReader}.
+ *
+ * <p>Lives in the parser package to reach the package-private reader implementations.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WrappedBrigadierParserBenchmark {
+
+    private static final String INPUT = "first second third fourth fifth sixth seventh eighth";
+    private static final String MIXED_INPUT = "stone 12345 \"quoted string argument\" "
+            + String.join(" ", Collections.nCopies(64, "word"));
+
+    private final WrappedBrigadierParser<Object, Integer> integerParser =
+            new WrappedBrigadierParser<>(IntegerArgumentType.integer());
+
+    private CommandContext<Object> commandContext;
+
+    /**
+     * Creates the command context.
+     */
+    @Setup
+    public void setup() {
+        this.commandContext = new CommandContext<>(false, new Object(), new BenchmarkCommandManager());
+    }
+
+    /**
+     * Reads all words through the copying {@link CloudStringReader}.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void cloudStringReader(final Blackhole blackhole) {
+        final CommandInput commandInput = CommandInput.of(INPUT);
+        final CloudStringReader reader = CloudStringReader.of(commandInput);
+        readWords(reader, blackhole);
+    }
+
+    /**
+     * Reads all words through the shared {@link CommandInputStringReader}.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void commandInputStringReader(final Blackhole blackhole) {
+        final CommandInput commandInput = CommandInput.of(INPUT);
+        final CommandInputStringReader reader = CommandInputStringReader.acquire(commandInput);
+        try {
+            readWords(reader, blackhole);
+        } finally {
+            reader.release(commandInput);
+        }
+    }
+
+    /**
+     * Reads unquoted and quoted strings through the copying {@link CloudStringReader}.
+     *
+     * @param blackhole blackhole
+     * @throws CommandSyntaxException never, the input is valid
+     */
+    @Benchmark
+    public void cloudStringReaderMixed(final Blackhole blackhole) throws CommandSyntaxException {
+        final CommandInput commandInput = CommandInput.of(MIXED_INPUT);
+        readStrings(CloudStringReader.of(commandInput), blackhole);
+    }
+
+    /**
+     * Reads unquoted and quoted strings through the shared {@link CommandInputStringReader}.
+     *
+     * @param blackhole blackhole
+     * @throws CommandSyntaxException never, the input is valid
+     */
+    @Benchmark
+    public void commandInputStringReaderMixed(final Blackhole blackhole) throws CommandSyntaxException {
+        final CommandInput commandInput = CommandInput.of(MIXED_INPUT);
+        final CommandInputStringReader reader = CommandInputStringReader.acquire(commandInput);
+        try {
+            readStrings(reader, blackhole);
+        } finally {
+            reader.release(commandInput);
+        }
+    }
+
+    /**
+     * Parses an integer through {@link WrappedBrigadierParser}.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public ArgumentParseResult<Integer> parseInteger() {
+        return this.integerParser.parse(this.commandContext, CommandInput.of("12345 trailing"));
+    }
+
+    private static void readWords(final StringReader reader, final Blackhole blackhole) {
+        while (reader.canRead()) {
+            blackhole.consume(reader.readUnquotedString());
+            reader.skipWhitespace();
+        }
+    }
+
+    private static void readStrings(final StringReader reader, final Blackhole blackhole) throws CommandSyntaxException {
+        while (reader.canRead()) {
+            blackhole.consume(reader.readString());
+            reader.skipWhitespace();
+        }
+    }
+}
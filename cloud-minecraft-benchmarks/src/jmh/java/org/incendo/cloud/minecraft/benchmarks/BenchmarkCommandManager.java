@@ -0,0 +1,77 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+/**
+ * Platform independent command manager that grants every permission, used to build synthetic command sets.
+ */
+public final class BenchmarkCommandManager extends CommandManager<Object> {
+
+    public static final String PERMISSION = "benchmark.use";
+
+    /**
+     * Creates a new command manager.
+     */
+    public BenchmarkCommandManager() {
+        super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+    }
+
+    /**
+     * Registers {@code root sub<i> <value>} commands until the tree below {@code root} holds roughly {@code nodes} nodes.
+     *
+     * @param root  the root literal
+     * @param nodes the number of nodes to create
+     * @return one of the registered commands
+     */
+    public @NonNull Command<Object> registerSyntheticCommands(final @NonNull String root, final int nodes) {
+        Command<Object> command = null;
+        for (int i = 0; i < nodes / 2; i++) {
+            final Command.Builder<Object> builder = this.commandBuilder(root)
+                    .permission(PERMISSION)
+                    .literal("sub" + i);
+            command = (i & 1) == 0
+                    ? builder.required("value", integerParser()).build()
+                    : builder.required("value", stringParser()).build();
+            this.command(command);
+        }
+        if (command == null) {
+            throw new IllegalArgumentException("nodes must be at least 2");
+        }
+        return command;
+    }
+
+    @Override
+    public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.benchmarks.brigadier;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionPredicate;
+import org.incendo.cloud.minecraft.benchmarks.BenchmarkCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of {@link BrigadierPermissionPredicate}, which Brigadier runs for every node that is sent
+ * to, suggested to, or parsed for a player.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionPredicateBenchmark {
+
+    private final Object sender = new Object();
+
+    private BrigadierPermissionPredicate<Object, Object> rootPredicate;
+    private BrigadierPermissionPredicate<Object, Object> leafPredicate;
+
+    /**
+     * Registers the commands and creates the predicates.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = new BenchmarkCommandManager();
+        commandManager.registerSyntheticCommands("bench", 100);
+        this.rootPredicate = new BrigadierPermissionPredicate<>(
+                SenderMapper.identity(),
+                (sender, permission) -> commandManager.testPermission(sender, permission).allowed(),
+                Objects.requireNonNull(commandManager.commandTree().getNamedNode("bench"))
+        );
+        this.leafPredicate = new BrigadierPermissionPredicate<>(
+                SenderMapper.identity(),
+                (sender, permission) -> commandManager.testPermission(sender, permission).allowed(),
+                Objects.requireNonNull(commandManager.commandTree().getNamedNode("bench")).children().get(0)
+        );
+    }
+
+    /**
+     * Tests the predicate of the root node.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean root() {
+        return this.rootPredicate.test(this.sender);
+    }
+
+    /**
+     * Tests the predicate of a literal below the root node.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean leaf() {
+        return this.leafPredicate.test(this.sender);
+    }
+}
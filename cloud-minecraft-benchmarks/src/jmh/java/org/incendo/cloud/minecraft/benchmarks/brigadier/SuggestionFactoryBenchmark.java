@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.benchmarks.brigadier;
+
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.suggestion.BrigadierSuggestionFactory;
+import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.minecraft.benchmarks.BenchmarkCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BrigadierSuggestionFactory#buildSuggestions} for the literals of synthetic command sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestionFactoryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int nodes;
+
+    @Param({"bench ", "bench sub1", "bench sub1 "})
+    private String input;
+
+    private BrigadierSuggestionFactory<Object, Object> suggestionFactory;
+    private CommandNode<Object> rootNode;
+
+    /**
+     * Registers the synthetic commands.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = new BenchmarkCommandManager();
+        commandManager.registerSyntheticCommands("bench", this.nodes);
+        final StandardCommandContextFactory<Object> contextFactory = new StandardCommandContextFactory<>(commandManager);
+        final CloudBrigadierManager<Object, Object> brigadierManager = new CloudBrigadierManager<>(
+                commandManager,
+                () -> contextFactory.create(false, new Object()),
+                SenderMapper.identity()
+        );
+        this.suggestionFactory = new BrigadierSuggestionFactory<>(
+                brigadierManager,
+                commandManager,
+                () -> new CommandContext<>(true, new Object(), commandManager),
+                commandManager.suggestionFactory().mapped(TooltipSuggestion::tooltipSuggestion)
+        );
+        this.rootNode = Objects.requireNonNull(commandManager.commandTree().getNamedNode("bench"));
+    }
+
+    /**
+     * Builds the suggestions for the input.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public Suggestions buildSuggestions() {
+        return this.suggestionFactory.buildSuggestions(
+                null,
+                this.rootNode,
+                Objects.requireNonNull(this.rootNode.component()),
+                new SuggestionsBuilder(this.input, this.input.lastIndexOf(' ') + 1)
+        ).join();
+    }
+}
@@ -0,0 +1,89 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.benchmarks.brigadier;
+
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory;
+import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.incendo.cloud.minecraft.benchmarks.BenchmarkCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of the Brigadier tree for synthetic command sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeConstructionBenchmark {
+
+    private static final com.mojang.brigadier.Command<Object> EXECUTOR = ctx -> 0;
+
+    @Param({"1000", "10000"})
+    private int nodes;
+
+    private LiteralBrigadierNodeFactory<Object, Object> nodeFactory;
+    private Command<Object> command;
+
+    /**
+     * Registers the synthetic commands.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = new BenchmarkCommandManager();
+        this.command = commandManager.registerSyntheticCommands("bench", this.nodes);
+        final CloudBrigadierManager<Object, Object> brigadierManager = new CloudBrigadierManager<>(
+                commandManager,
+                () -> new StandardCommandContextFactory<>(commandManager).create(false, new Object()),
+                SenderMapper.identity()
+        );
+        this.nodeFactory = brigadierManager.literalBrigadierNodeFactory();
+    }
+
+    /**
+     * Builds the Brigadier tree for the synthetic root command.
+     *
+     * @return the built node
+     */
+    @Benchmark
+    public LiteralCommandNode<Object> createNode() {
+        return this.nodeFactory.createNode("bench", this.command, EXECUTOR);
+    }
+}
@@ -0,0 +1,139 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.benchmarks.bukkit;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.parser.MaterialParser;
+import org.incendo.cloud.bukkit.parser.WorldParser;
+import org.incendo.cloud.bukkit.parser.location.LocationParser;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.minecraft.benchmarks.BenchmarkCommandManager;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the Bukkit parsers against a stub-only mocked server, mirroring the setup of the parser unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BukkitParserBenchmark {
+
+    private final ArgumentParser<Object, World> worldParser = WorldParser.worldParser().parser();
+    private final MaterialParser<Object> materialParser = new MaterialParser<>();
+    private final ArgumentParser<Object, Location> locationParser = LocationParser.locationParser().parser();
+
+    private CommandContext<Object> commandContext;
+
+    /**
+     * Installs the mocked server.
+     *
+     * @throws ReflectiveOperationException if the server could not be installed
+     */
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        final Server server = mock(Server.class, withSettings().stubOnly());
+        final World world = mock(World.class, withSettings().stubOnly());
+        when(world.getName()).thenReturn("world");
+        when(server.getWorld("world")).thenReturn(world);
+        when(server.getWorlds()).thenReturn(Collections.singletonList(world));
+
+        final Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        field.set(null, server);
+
+        final BenchmarkCommandManager commandManager = new BenchmarkCommandManager();
+        final CommandSender sender = mock(CommandSender.class, withSettings().stubOnly());
+        this.commandContext = new CommandContext<>(false, sender, commandManager);
+        this.commandContext.set(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER, sender);
+    }
+
+    /**
+     * Parses a world name.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public ArgumentParseResult<World> parseWorld() {
+        return this.worldParser.parse(this.commandContext, CommandInput.of("world"));
+    }
+
+    /**
+     * Parses a material name.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public ArgumentParseResult<Material> parseMaterial() {
+        return this.materialParser.parse(this.commandContext, CommandInput.of("stone"));
+    }
+
+    /**
+     * Parses relative coordinates.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public ArgumentParseResult<Location> parseLocation() {
+        return this.locationParser.parse(this.commandContext, CommandInput.of("~1 ~2 ~3"));
+    }
+
+    /**
+     * Builds the material suggestions.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public Iterable<Suggestion> suggestMaterials() {
+        return this.materialParser.suggestions(this.commandContext, CommandInput.of("st"));
+    }
+}
@@ -0,0 +1,93 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.benchmarks.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-command overhead of the {@link CommandMetrics} implementations on the dispatch path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandMetricsBenchmark {
+
+    @Param({"noop", "standard"})
+    private String implementation;
+
+    private CommandMetrics metrics;
+
+    /**
+     * Creates the metrics implementation.
+     */
+    @Setup
+    public void setup() {
+        this.metrics = "noop".equals(this.implementation) ? CommandMetrics.noop() : CommandMetrics.standard();
+    }
+
+    /**
+     * Records what a single command dispatch records.
+     *
+     * @return the measured time
+     */
+    @Benchmark
+    public long dispatch() {
+        return this.record();
+    }
+
+    /**
+     * Records what a single command dispatch records from several threads at once.
+     *
+     * @return the measured time
+     */
+    @Benchmark
+    @Threads(4)
+    public long dispatchContended() {
+        return this.record();
+    }
+
+    private long record() {
+        final long start = this.metrics.time();
+        this.metrics.recordPermissionCheck(true);
+        this.metrics.recordExecution("bench");
+        this.metrics.recordSuggestions(this.metrics.time() - start);
+        return start;
+    }
+}
@@ -0,0 +1,17 @@
+plugins {
+    id("conventions.base")
+    id("conventions.publishing")
+}
+
+sourceSets {
+    main {
+        /* JFR events require Java 11, older runtimes use the no-op implementations */
+        multirelease {
+            alternateVersions(11)
+        }
+    }
+}
+
+dependencies {
+    api(libs.cloud.core)
+}
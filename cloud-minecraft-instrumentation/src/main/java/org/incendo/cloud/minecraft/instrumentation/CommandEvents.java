@@ -0,0 +1,155 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Emits Java Flight Recorder events for the command phases of the platform integrations.
+ *
+ * <p>Every {@code begin} method returns an opaque event handle, or {@code null} if the event type is disabled, which
+ * must be passed to the matching {@code commit} method. This implementation is used on runtimes without JFR and does
+ * nothing, the Java 11+ implementation is selected from the multi-release jar.</p>
+ *
+ * <p>The sender passed to the {@code commit} methods is always the cloud command sender, so that the recorded sender
+ * type is the same on every platform.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*", since = "2.0.0")
+public final class CommandEvents {
+
+    public static final String SOURCE_BRIGADIER = "brigadier";
+    public static final String SOURCE_BUKKIT = "bukkit";
+    public static final String SOURCE_PAPER = "paper";
+
+    private CommandEvents() {
+    }
+
+    /**
+     * Begins a command execution event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginExecute() {
+        return null;
+    }
+
+    /**
+     * Commits a command execution event.
+     *
+     * @param event  the handle returned by {@link #beginExecute()}
+     * @param source the platform layer emitting the event
+     * @param input  the command input
+     * @param sender the cloud command sender
+     */
+    public static void commitExecute(
+            final @Nullable Object event,
+            final @NonNull String source,
+            final @NonNull String input,
+            final @NonNull Object sender
+    ) {
+    }
+
+    /**
+     * Begins a suggestion event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginSuggest() {
+        return null;
+    }
+
+    /**
+     * Commits a suggestion event.
+     *
+     * @param event           the handle returned by {@link #beginSuggest()}
+     * @param source          the platform layer emitting the event
+     * @param input           the command input
+     * @param sender          the cloud command sender
+     * @param suggestionCount the number of produced suggestions
+     */
+    public static void commitSuggest(
+            final @Nullable Object event,
+            final @NonNull String source,
+            final @NonNull String input,
+            final @NonNull Object sender,
+            final int suggestionCount
+    ) {
+    }
+
+    /**
+     * Begins an argument parse event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginParse() {
+        return null;
+    }
+
+    /**
+     * Commits an argument parse event.
+     *
+     * @param event      the handle returned by {@link #beginParse()}
+     * @param input      the command input
+     * @param parserType the type of the parser
+     * @param sender     the cloud command sender
+     * @param success    whether the parsing succeeded
+     */
+    public static void commitParse(
+            final @Nullable Object event,
+            final @NonNull String input,
+            final @NonNull Class<?> parserType,
+            final @NonNull Object sender,
+            final boolean success
+    ) {
+    }
+
+    /**
+     * Begins a permission check event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginPermissionCheck() {
+        return null;
+    }
+
+    /**
+     * Commits a permission check event.
+     *
+     * @param event   the handle returned by {@link #beginPermissionCheck()}
+     * @param node    the name of the checked node
+     * @param sender  the cloud command sender
+     * @param allowed whether the sender was allowed access
+     */
+    public static void commitPermissionCheck(
+            final @Nullable Object event,
+            final @NonNull String node,
+            final @NonNull Object sender,
+            final boolean allowed
+    ) {
+    }
+}
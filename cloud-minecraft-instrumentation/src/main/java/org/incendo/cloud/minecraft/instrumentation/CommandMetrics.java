@@ -0,0 +1,149 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.exception.ArgumentParseException;
+import org.incendo.cloud.parser.ParserException;
+
+/**
+ * Receives command traffic metrics from the platform integrations.
+ *
+ * <p>Implementations are invoked on the hot paths of command execution, suggestions and permission checks, and must
+ * be thread-safe and should not allocate. {@link #standard()} returns a lock-free implementation exposing
+ * {@link StandardCommandMetrics#snapshot() snapshots} that can be polled by an exporter.</p>
+ *
+ * <p>Metrics are disabled until an instance is {@link #install(CommandMetrics) installed}.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.STABLE, since = "2.0.0")
+public interface CommandMetrics {
+
+    /**
+     * Returns a metrics instance that ignores all recordings.
+     *
+     * @return the no-op metrics
+     */
+    static @NonNull CommandMetrics noop() {
+        return NoopCommandMetrics.INSTANCE;
+    }
+
+    /**
+     * Returns a new lock-free metrics instance that keeps striped counters and fixed-bucket latency histograms.
+     *
+     * @return the metrics
+     */
+    static @NonNull StandardCommandMetrics standard() {
+        return new StandardCommandMetrics();
+    }
+
+    /**
+     * Returns the installed metrics instance, or {@link #noop()} if none has been installed.
+     *
+     * @return the installed metrics
+     */
+    static @NonNull CommandMetrics installed() {
+        return NoopCommandMetrics.installed();
+    }
+
+    /**
+     * Installs the metrics instance that the platform integrations report to.
+     *
+     * @param metrics the metrics, or {@link #noop()} to disable metrics
+     */
+    static void install(final @NonNull CommandMetrics metrics) {
+        NoopCommandMetrics.install(Objects.requireNonNull(metrics, "metrics"));
+    }
+
+    /**
+     * Returns the current value of the time source used for the latency recordings, in nanoseconds.
+     *
+     * <p>Implementations that do not record latencies may return a constant to avoid reading the clock.</p>
+     *
+     * @return the current time
+     */
+    default long time() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the execution of a command.
+     *
+     * @param root the root command literal
+     */
+    void recordExecution(@NonNull String root);
+
+    /**
+     * Records a parse failure while executing a command. Failures while computing suggestions are not recorded.
+     *
+     * @param parserType the type of the parser that failed
+     */
+    void recordParseFailure(@NonNull Class<?> parserType);
+
+    /**
+     * Records a parse failure if the given failure of a command execution or suggestion request was caused by a
+     * {@link ParserException}, using the {@link ParserException#argumentParser() type} of the failing parser.
+     *
+     * <p>This is called by the platform integrations when the future returned by the command executor completes
+     * exceptionally. Failures of wrapped Brigadier argument types are recorded by the wrapping parser instead, as the
+     * thrown syntax exceptions do not carry the type of the parser.</p>
+     *
+     * @param failure the failure, or {@code null} if the request completed normally
+     */
+    default void recordFailure(final @Nullable Throwable failure) {
+        Throwable cause = failure;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ArgumentParseException && cause.getCause() instanceof ParserException) {
+            this.recordParseFailure(((ParserException) cause.getCause()).argumentParser());
+        }
+    }
+
+    /**
+     * Records the time it took to compute suggestions.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    void recordSuggestions(long nanos);
+
+    /**
+     * Records a permission check.
+     *
+     * @param allowed whether access was granted
+     */
+    void recordPermissionCheck(boolean allowed);
+
+    /**
+     * Records the time it took to build the Brigadier tree for a root command.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    void recordTreeBuild(long nanos);
+}
@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.immutables.value.Value;
+import org.incendo.cloud.internal.ImmutableImpl;
+
+/**
+ * A point-in-time view of a {@link StandardCommandMetrics} instance.
+ *
+ * @since 2.0.0
+ */
+@ImmutableImpl
+@Value.Immutable
+@API(status = API.Status.STABLE, since = "2.0.0")
+public interface CommandMetricsSnapshot {
+
+    /**
+     * Returns the number of executions per root command.
+     *
+     * @return the executions
+     */
+    @NonNull Map<@NonNull String, @NonNull Long> executions();
+
+    /**
+     * Returns the number of parse failures per parser class name.
+     *
+     * @return the parse failures
+     */
+    @NonNull Map<@NonNull String, @NonNull Long> parseFailures();
+
+    /**
+     * Returns the suggestion latencies.
+     *
+     * @return the suggestion latencies
+     */
+    @NonNull LatencySnapshot suggestionLatency();
+
+    /**
+     * Returns the number of permission checks.
+     *
+     * @return the permission checks
+     */
+    long permissionChecks();
+
+    /**
+     * Returns the number of permission checks that denied access.
+     *
+     * @return the denied permission checks
+     */
+    long permissionDenials();
+
+    /**
+     * Returns the Brigadier tree build times.
+     *
+     * @return the tree build times
+     */
+    @NonNull LatencySnapshot treeBuildTime();
+}
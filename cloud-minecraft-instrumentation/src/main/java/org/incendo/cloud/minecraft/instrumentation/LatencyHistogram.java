@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A lock-free latency histogram with fixed, power-of-two nanosecond buckets.
+ *
+ * <p>The first bucket holds durations below {@value #MIN_BOUND_NANOS}ns, every following bucket doubles the upper
+ * bound up to roughly one second, and the last bucket holds everything above. Recording a duration is a bucket
+ * index computation followed by two striped counter increments, and does not allocate.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.STABLE, since = "2.0.0")
+public final class LatencyHistogram {
+
+    /**
+     * The upper bound of the first bucket.
+     */
+    public static final long MIN_BOUND_NANOS = 1L << 10;
+
+    private static final int MIN_BOUND_SHIFT = 10;
+    private static final int MAX_BOUND_SHIFT = 30;
+    private static final int BUCKETS = MAX_BOUND_SHIFT - MIN_BOUND_SHIFT + 2;
+    private static final long[] UPPER_BOUNDS = new long[BUCKETS];
+
+    static {
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            UPPER_BOUNDS[i] = 1L << (MIN_BOUND_SHIFT + i);
+        }
+        UPPER_BOUNDS[BUCKETS - 1] = Long.MAX_VALUE;
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos duration in nanoseconds, negative durations are recorded as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0L, nanos);
+        this.buckets[bucket(value)].increment();
+        this.totalNanos.add(value);
+    }
+
+    /**
+     * Returns a snapshot of the recorded durations. Concurrent recordings may or may not be included.
+     *
+     * @return the snapshot
+     */
+    public @NonNull LatencySnapshot snapshot() {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+        }
+        return LatencySnapshotImpl.of(UPPER_BOUNDS, counts, this.totalNanos.sum());
+    }
+
+    static int bucket(final long nanos) {
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(nanos);
+        return Math.min(Math.max(0, bits - MIN_BOUND_SHIFT), BUCKETS - 1);
+    }
+}
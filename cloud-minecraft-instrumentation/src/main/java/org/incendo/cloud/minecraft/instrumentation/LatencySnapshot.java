@@ -0,0 +1,100 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.immutables.value.Value;
+import org.incendo.cloud.internal.ImmutableImpl;
+
+/**
+ * A point-in-time view of a {@link LatencyHistogram}.
+ *
+ * @since 2.0.0
+ */
+@ImmutableImpl
+@Value.Immutable
+@API(status = API.Status.STABLE, since = "2.0.0")
+public interface LatencySnapshot {
+
+    /**
+     * Returns the exclusive upper bound of every bucket, in nanoseconds.
+     *
+     * @return the bucket bounds
+     */
+    long @NonNull [] bucketUpperBounds();
+
+    /**
+     * Returns the number of recorded durations in every bucket.
+     *
+     * @return the bucket counts
+     */
+    long @NonNull [] bucketCounts();
+
+    /**
+     * Returns the sum of all recorded durations, in nanoseconds.
+     *
+     * @return the total duration
+     */
+    long totalNanos();
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the count
+     */
+    default long count() {
+        long count = 0L;
+        for (final long bucketCount : this.bucketCounts()) {
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given {@code quantile}, in nanoseconds.
+     *
+     * @param quantile the quantile, between {@code 0} and {@code 1}
+     * @return the upper bound of the quantile, or {@code 0} if nothing has been recorded
+     */
+    default long quantile(final double quantile) {
+        if (quantile < 0D || quantile > 1D) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        final long[] counts = this.bucketCounts();
+        final long count = this.count();
+        if (count == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return this.bucketUpperBounds()[i];
+            }
+        }
+        return this.bucketUpperBounds()[counts.length - 1];
+    }
+}
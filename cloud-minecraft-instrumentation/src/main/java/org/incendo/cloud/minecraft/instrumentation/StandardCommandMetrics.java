@@ -0,0 +1,110 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link CommandMetrics} implementation backed by striped counters and {@link LatencyHistogram latency histograms}.
+ *
+ * <p>Recording only allocates the first time a root command or parser type is seen.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.STABLE, since = "2.0.0")
+public final class StandardCommandMetrics implements CommandMetrics {
+
+    private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> parseFailures = new ConcurrentHashMap<>();
+    private final LatencyHistogram suggestionLatency = new LatencyHistogram();
+    private final LongAdder permissionChecks = new LongAdder();
+    private final LongAdder permissionDenials = new LongAdder();
+    private final LatencyHistogram treeBuildTime = new LatencyHistogram();
+
+    StandardCommandMetrics() {
+    }
+
+    @Override
+    public void recordExecution(final @NonNull String root) {
+        counter(this.executions, root).increment();
+    }
+
+    @Override
+    public void recordParseFailure(final @NonNull Class<?> parserType) {
+        counter(this.parseFailures, parserType).increment();
+    }
+
+    @Override
+    public void recordSuggestions(final long nanos) {
+        this.suggestionLatency.record(nanos);
+    }
+
+    @Override
+    public void recordPermissionCheck(final boolean allowed) {
+        this.permissionChecks.increment();
+        if (!allowed) {
+            this.permissionDenials.increment();
+        }
+    }
+
+    @Override
+    public void recordTreeBuild(final long nanos) {
+        this.treeBuildTime.record(nanos);
+    }
+
+    /**
+     * Returns a snapshot of the recorded metrics. Concurrent recordings may or may not be included.
+     *
+     * @return the snapshot
+     */
+    public @NonNull CommandMetricsSnapshot snapshot() {
+        final Map<String, Long> executions = new HashMap<>();
+        this.executions.forEach((root, counter) -> executions.put(root, counter.sum()));
+        final Map<String, Long> parseFailures = new HashMap<>();
+        this.parseFailures.forEach((type, counter) -> parseFailures.put(type.getName(), counter.sum()));
+        return CommandMetricsSnapshotImpl.of(
+                Collections.unmodifiableMap(executions),
+                Collections.unmodifiableMap(parseFailures),
+                this.suggestionLatency.snapshot(),
+                this.permissionChecks.sum(),
+                this.permissionDenials.sum(),
+                this.treeBuildTime.snapshot()
+        );
+    }
+
+    private static <K> @NonNull LongAdder counter(final @NonNull Map<K, LongAdder> counters, final @NonNull K key) {
+        final @Nullable LongAdder counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+}
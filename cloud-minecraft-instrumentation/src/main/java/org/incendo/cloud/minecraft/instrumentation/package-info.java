@@ -0,0 +1,13 @@
+/**
+ * Low-overhead instrumentation of the platform command entry points.
+ *
+ * <p>On Java 11+ the platforms emit Java Flight Recorder events for command execution, suggestions, wrapped Brigadier
+ * parsing and permission checks. The events are disabled by default, the bundled {@code cloud.jfc} profile
+ * (found at {@code org/incendo/cloud/minecraft/instrumentation/cloud.jfc} inside this jar) enables all of them, and may
+ * be combined with the JDK profiles: {@code -XX:StartFlightRecording:settings=default,cloud.jfc}.</p>
+ *
+ * <p>Continuously scraped command traffic metrics are reported to the
+ * {@link org.incendo.cloud.minecraft.instrumentation.CommandMetrics#installed() installed}
+ * {@link org.incendo.cloud.minecraft.instrumentation.CommandMetrics} instance.</p>
+ */
+package org.incendo.cloud.minecraft.instrumentation;
@@ -0,0 +1,308 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Emits Java Flight Recorder events for the command phases of the platform integrations.
+ *
+ * <p>Every {@code begin} method returns an opaque event handle, or {@code null} if the event type is disabled, which
+ * must be passed to the matching {@code commit} method. While an event type is disabled the only cost is a single
+ * enabled check, no event objects are allocated.</p>
+ *
+ * <p>The sender passed to the {@code commit} methods is always the cloud command sender, so that the recorded sender
+ * type is the same on every platform.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*", since = "2.0.0")
+public final class CommandEvents {
+
+    public static final String SOURCE_BRIGADIER = "brigadier";
+    public static final String SOURCE_BUKKIT = "bukkit";
+    public static final String SOURCE_PAPER = "paper";
+
+    private static final EventType EXECUTE = EventType.getEventType(ExecuteEvent.class);
+    private static final EventType SUGGEST = EventType.getEventType(SuggestEvent.class);
+    private static final EventType PARSE = EventType.getEventType(ParseEvent.class);
+    private static final EventType PERMISSION_CHECK = EventType.getEventType(PermissionCheckEvent.class);
+
+    private CommandEvents() {
+    }
+
+    /**
+     * Begins a command execution event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginExecute() {
+        if (!EXECUTE.isEnabled()) {
+            return null;
+        }
+        final ExecuteEvent event = new ExecuteEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a command execution event.
+     *
+     * @param event  the handle returned by {@link #beginExecute()}
+     * @param source the platform layer emitting the event
+     * @param input  the command input
+     * @param sender the cloud command sender
+     */
+    public static void commitExecute(
+            final @Nullable Object event,
+            final @NonNull String source,
+            final @NonNull String input,
+            final @NonNull Object sender
+    ) {
+        if (!(event instanceof ExecuteEvent)) {
+            return;
+        }
+        final ExecuteEvent executeEvent = (ExecuteEvent) event;
+        executeEvent.end();
+        if (executeEvent.shouldCommit()) {
+            executeEvent.source = source;
+            executeEvent.root = root(input);
+            executeEvent.senderType = sender.getClass().getName();
+            executeEvent.commit();
+        }
+    }
+
+    /**
+     * Begins a suggestion event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginSuggest() {
+        if (!SUGGEST.isEnabled()) {
+            return null;
+        }
+        final SuggestEvent event = new SuggestEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a suggestion event.
+     *
+     * @param event           the handle returned by {@link #beginSuggest()}
+     * @param source          the platform layer emitting the event
+     * @param input           the command input
+     * @param sender          the cloud command sender
+     * @param suggestionCount the number of produced suggestions
+     */
+    public static void commitSuggest(
+            final @Nullable Object event,
+            final @NonNull String source,
+            final @NonNull String input,
+            final @NonNull Object sender,
+            final int suggestionCount
+    ) {
+        if (!(event instanceof SuggestEvent)) {
+            return;
+        }
+        final SuggestEvent suggestEvent = (SuggestEvent) event;
+        suggestEvent.end();
+        if (suggestEvent.shouldCommit()) {
+            suggestEvent.source = source;
+            suggestEvent.root = root(input);
+            suggestEvent.senderType = sender.getClass().getName();
+            suggestEvent.suggestionCount = suggestionCount;
+            suggestEvent.commit();
+        }
+    }
+
+    /**
+     * Begins an argument parse event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginParse() {
+        if (!PARSE.isEnabled()) {
+            return null;
+        }
+        final ParseEvent event = new ParseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits an argument parse event.
+     *
+     * @param event      the handle returned by {@link #beginParse()}
+     * @param input      the command input
+     * @param parserType the type of the parser
+     * @param sender     the cloud command sender
+     * @param success    whether the parsing succeeded
+     */
+    public static void commitParse(
+            final @Nullable Object event,
+            final @NonNull String input,
+            final @NonNull Class<?> parserType,
+            final @NonNull Object sender,
+            final boolean success
+    ) {
+        if (!(event instanceof ParseEvent)) {
+            return;
+        }
+        final ParseEvent parseEvent = (ParseEvent) event;
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.root = root(input);
+            parseEvent.parserType = parserType;
+            parseEvent.senderType = sender.getClass().getName();
+            parseEvent.success = success;
+            parseEvent.commit();
+        }
+    }
+
+    /**
+     * Begins a permission check event.
+     *
+     * @return the event handle, or {@code null} if the event is disabled
+     */
+    public static @Nullable Object beginPermissionCheck() {
+        if (!PERMISSION_CHECK.isEnabled()) {
+            return null;
+        }
+        final PermissionCheckEvent event = new PermissionCheckEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a permission check event.
+     *
+     * @param event   the handle returned by {@link #beginPermissionCheck()}
+     * @param node    the name of the checked node
+     * @param sender  the cloud command sender
+     * @param allowed whether the sender was allowed access
+     */
+    public static void commitPermissionCheck(
+            final @Nullable Object event,
+            final @NonNull String node,
+            final @NonNull Object sender,
+            final boolean allowed
+    ) {
+        if (!(event instanceof PermissionCheckEvent)) {
+            return;
+        }
+        final PermissionCheckEvent permissionCheckEvent = (PermissionCheckEvent) event;
+        permissionCheckEvent.end();
+        if (permissionCheckEvent.shouldCommit()) {
+            permissionCheckEvent.node = node;
+            permissionCheckEvent.senderType = sender.getClass().getName();
+            permissionCheckEvent.allowed = allowed;
+            permissionCheckEvent.commit();
+        }
+    }
+
+    private static @NonNull String root(final @NonNull String input) {
+        final int start = input.startsWith("/") ? 1 : 0;
+        final int end = input.indexOf(' ', start);
+        return end == -1 ? input.substring(start) : input.substring(start, end);
+    }
+
+    @Name("org.incendo.cloud.CommandExecute")
+    @Label("Command Execute")
+    @Category({"Cloud", "Commands"})
+    @Description("Dispatch of a command to cloud on the calling thread")
+    static final class ExecuteEvent extends Event {
+
+        @Label("Source")
+        private String source;
+
+        @Label("Root Command")
+        private String root;
+
+        @Label("Sender Type")
+        private String senderType;
+    }
+
+    @Name("org.incendo.cloud.CommandSuggest")
+    @Label("Command Suggestions")
+    @Category({"Cloud", "Commands"})
+    @Description("Computation of command suggestions")
+    static final class SuggestEvent extends Event {
+
+        @Label("Source")
+        private String source;
+
+        @Label("Root Command")
+        private String root;
+
+        @Label("Sender Type")
+        private String senderType;
+
+        @Label("Suggestion Count")
+        private int suggestionCount;
+    }
+
+    @Name("org.incendo.cloud.ArgumentParse")
+    @Label("Wrapped Argument Parse")
+    @Category({"Cloud", "Commands"})
+    @Description("Parsing of an argument through a wrapped Brigadier argument type")
+    static final class ParseEvent extends Event {
+
+        @Label("Root Command")
+        private String root;
+
+        @Label("Parser Type")
+        private Class<?> parserType;
+
+        @Label("Sender Type")
+        private String senderType;
+
+        @Label("Success")
+        private boolean success;
+    }
+
+    @Name("org.incendo.cloud.PermissionCheck")
+    @Label("Command Permission Check")
+    @Category({"Cloud", "Commands"})
+    @Description("Evaluation of a Brigadier node requirement")
+    static final class PermissionCheckEvent extends Event {
+
+        @Label("Node")
+        private String node;
+
+        @Label("Sender Type")
+        private String senderType;
+
+        @Label("Allowed")
+        private boolean allowed;
+    }
+}
@@ -0,0 +1,143 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+import org.incendo.cloud.caption.Caption;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.exception.ArgumentParseException;
+import org.incendo.cloud.parser.ParserException;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StandardCommandMetricsTest {
+
+    @Test
+    void testCounters() {
+        // Arrange
+        final StandardCommandMetrics metrics = CommandMetrics.standard();
+
+        // Act
+        metrics.recordExecution("foo");
+        metrics.recordExecution("foo");
+        metrics.recordExecution("bar");
+        metrics.recordParseFailure(Integer.class);
+        metrics.recordPermissionCheck(true);
+        metrics.recordPermissionCheck(false);
+        final CommandMetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        assertThat(snapshot.executions()).containsExactly("foo", 2L, "bar", 1L);
+        assertThat(snapshot.parseFailures()).containsExactly(Integer.class.getName(), 1L);
+        assertThat(snapshot.permissionChecks()).isEqualTo(2L);
+        assertThat(snapshot.permissionDenials()).isEqualTo(1L);
+    }
+
+    @Test
+    void testRecordFailure() {
+        // Arrange
+        final StandardCommandMetrics metrics = CommandMetrics.standard();
+        final ParserException parserException = new TestParserException(mock(CommandContext.class));
+
+        // Act
+        metrics.recordFailure(null);
+        metrics.recordFailure(new IllegalStateException());
+        metrics.recordFailure(new ArgumentParseException(new IllegalStateException(), new Object(), Collections.emptyList()));
+        metrics.recordFailure(new ArgumentParseException(parserException, new Object(), Collections.emptyList()));
+        metrics.recordFailure(new CompletionException(
+                new ArgumentParseException(parserException, new Object(), Collections.emptyList())
+        ));
+
+        // Assert
+        assertThat(metrics.snapshot().parseFailures()).containsExactly(Integer.class.getName(), 2L);
+    }
+
+    @Test
+    void testLatencyQuantiles() {
+        // Arrange
+        final StandardCommandMetrics metrics = CommandMetrics.standard();
+
+        // Act
+        for (int i = 0; i < 90; i++) {
+            metrics.recordSuggestions(500L);
+        }
+        for (int i = 0; i < 10; i++) {
+            metrics.recordSuggestions(1_500_000L);
+        }
+        final LatencySnapshot snapshot = metrics.snapshot().suggestionLatency();
+
+        // Assert
+        assertThat(snapshot.count()).isEqualTo(100L);
+        assertThat(snapshot.totalNanos()).isEqualTo(90 * 500L + 10 * 1_500_000L);
+        assertThat(snapshot.quantile(0.5D)).isEqualTo(LatencyHistogram.MIN_BOUND_NANOS);
+        assertThat(snapshot.quantile(0.99D)).isEqualTo(1L << 21);
+    }
+
+    @Test
+    void testHistogramBuckets() {
+        assertThat(LatencyHistogram.bucket(0L)).isEqualTo(0);
+        assertThat(LatencyHistogram.bucket(LatencyHistogram.MIN_BOUND_NANOS - 1)).isEqualTo(0);
+        assertThat(LatencyHistogram.bucket(LatencyHistogram.MIN_BOUND_NANOS)).isEqualTo(1);
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE)).isEqualTo(21);
+    }
+
+    @Test
+    void testRecordingDoesNotAllocate() {
+        // Arrange
+        final StandardCommandMetrics metrics = CommandMetrics.standard();
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        this.record(metrics, 10_000);
+
+        // Act
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        this.record(metrics, 100_000);
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Assert
+        assertThat(allocated).isLessThan(1024L);
+    }
+
+    private void record(final CommandMetrics metrics, final int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            metrics.recordExecution("root");
+            metrics.recordParseFailure(Integer.class);
+            metrics.recordSuggestions(i);
+            metrics.recordPermissionCheck((i & 1) == 0);
+            metrics.recordTreeBuild(i);
+        }
+    }
+
+    private static final class TestParserException extends ParserException {
+
+        private TestParserException(final CommandContext<?> context) {
+            super(Integer.class, context, Caption.of("argument.parse.failure.test"));
+        }
+    }
+}
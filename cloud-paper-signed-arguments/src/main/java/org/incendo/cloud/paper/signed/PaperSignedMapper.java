@@ -85,7 +85,7 @@ public final class PaperSignedMapper implements SignedStringMapper {
         final CommandContext<?> ctx,
         final String str
     ) {
-        final Object stack = ctx.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+        final Object stack = WrappedBrigadierParser.nativeSender(ctx);
         final Object signingContext = this.proxies().commandSourceStackProxy.getSigningContext(stack);
         final Map<String, ?> signedArgs;
         try {
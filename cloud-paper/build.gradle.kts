@@ -11,6 +11,7 @@ dependencies {
     api(projects.cloudBukkit)
     compileOnly(libs.paperApi)
     compileOnly(libs.paperMojangApi)
+    testImplementation(libs.paperApi)
     javadocLinks(libs.paperApi) {
         isTransitive = false
     }
@@ -0,0 +1,88 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.paper;
+
+import com.google.common.collect.MapMaker;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import org.bukkit.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Executors running tasks on the scheduler of an entity, reused for as long as the entity is around.
+ *
+ * <p>The cache is keyed weakly and by identity, and the executors only hold a weak reference to their entity, so an
+ * entry is cleared once its entity has been collected. Like the entity scheduler, which retires the tasks of removed
+ * entities, an executor drops the tasks submitted after its entity has been collected.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class EntityExecutorCache {
+
+    private final Map<Entity, Executor> executors = new MapMaker().weakKeys().makeMap();
+    private final BiConsumer<Entity, Runnable> runOnEntity;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param runOnEntity runs a task on the scheduler of an entity
+     */
+    EntityExecutorCache(final BiConsumer<Entity, Runnable> runOnEntity) {
+        this.runOnEntity = runOnEntity;
+    }
+
+    /**
+     * Returns the executor of the entity.
+     *
+     * @param entity the entity
+     * @return the executor
+     */
+    Executor executor(final Entity entity) {
+        final @Nullable Executor cached = this.executors.get(entity);
+        if (cached != null) {
+            return cached;
+        }
+        final WeakReference<Entity> reference = new WeakReference<>(entity);
+        final Executor executor = task -> {
+            final @Nullable Entity referent = reference.get();
+            if (referent != null) {
+                this.runOnEntity.accept(referent, task);
+            }
+        };
+        final @Nullable Executor existing = this.executors.putIfAbsent(entity, executor);
+        return existing == null ? executor : existing;
+    }
+
+    /**
+     * Returns the number of cached executors, including those of collected entities that have not been purged yet.
+     *
+     * @return the number of cached executors
+     */
+    int size() {
+        return this.executors.size();
+    }
+}
@@ -38,6 +38,7 @@ import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.CloudBukkitCapabilities;
+import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.execution.ExecutionCoordinator;
 import org.incendo.cloud.paper.suggestion.SuggestionListener;
 import org.incendo.cloud.paper.suggestion.SuggestionListenerFactory;
@@ -84,6 +85,13 @@ public class PaperCommandManager<C> extends BukkitCommandManager<C> {
         super(owningPlugin, commandExecutionCoordinator, senderMapper);
 
         this.registerCommandPreProcessor(new PaperCommandPreprocessor<>(this));
+
+        if (CraftBukkitReflection.classExists("io.papermc.paper.event.server.ServerResourcesReloadedEvent")) {
+            Bukkit.getServer().getPluginManager().registerEvents(
+                    new PaperResourcesReloadListener(CraftBukkitReflection.findMCClass("commands.CommandBuildContext") != null),
+                    owningPlugin
+            );
+        }
     }
 
     /**
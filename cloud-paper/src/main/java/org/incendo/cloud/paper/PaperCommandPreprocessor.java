@@ -24,6 +24,7 @@
 package org.incendo.cloud.paper;
 
 import java.util.concurrent.Executor;
+import org.bukkit.Location;
 import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
@@ -31,7 +32,9 @@ import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.framework.qual.DefaultQualifier;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.CommandRegions;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
+import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessor;
 
@@ -42,48 +45,83 @@ final class PaperCommandPreprocessor<C> implements CommandPreprocessor<C> {
             CraftBukkitReflection.classExists("io.papermc.paper.threadedregions.RegionizedServer");
 
     private final PaperCommandManager<C> manager;
+    private final Plugin plugin;
+    private final Executor globalExecutor;
+    private final EntityExecutorCache entityExecutors;
 
     PaperCommandPreprocessor(final PaperCommandManager<C> manager) {
         this.manager = manager;
+        this.plugin = manager.owningPlugin();
+        this.globalExecutor = this::runGlobal;
+        this.entityExecutors = new EntityExecutorCache(this::runOnEntity);
     }
 
     @Override
     public void accept(final CommandPreprocessingContext<C> ctx) {
         // cloud-bukkit's preprocessor will store the main thread executor if we don't store anything.
         if (FOLIA) {
-            ctx.commandContext().store(
-                    BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR,
-                    this.foliaExecutorFor(ctx.commandContext().sender())
+            final CommandContext<C> commandContext = ctx.commandContext();
+            final Executor senderExecutor = this.foliaExecutorFor(commandContext.sender());
+            commandContext.store(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR, senderExecutor);
+            commandContext.store(
+                    BukkitCommandContextKeys.REGION_SCHEDULER_EXECUTOR,
+                    this.regionExecutorFor(commandContext, senderExecutor)
             );
         }
     }
 
     private Executor foliaExecutorFor(final C sender) {
         final CommandSender commandSender = this.manager.senderMapper().reverse(sender);
-        final Plugin plugin = this.manager.owningPlugin();
         if (commandSender instanceof Entity) {
-            return task -> {
-                ((Entity) commandSender).getScheduler().run(
-                        plugin,
-                        handle -> task.run(),
-                        null
-                );
-            };
+            return this.entityExecutors.executor((Entity) commandSender);
         } else if (commandSender instanceof BlockCommandSender) {
-            final BlockCommandSender blockSender = (BlockCommandSender) commandSender;
-            return task -> {
-                blockSender.getServer().getRegionScheduler().run(
-                        plugin,
-                        blockSender.getBlock().getLocation(),
-                        handle -> task.run()
-                );
-            };
+            // Not cached, Bukkit creates a new block command sender for every command
+            final Location location = ((BlockCommandSender) commandSender).getBlock().getLocation();
+            return task -> this.runAtLocation(location, task);
         }
+        return this.globalExecutor;
+    }
+
+    private Executor regionExecutorFor(final CommandContext<C> commandContext, final Executor senderExecutor) {
+        // The region is only known once parsing completed, so it is resolved when a task is submitted
         return task -> {
-            plugin.getServer().getGlobalRegionScheduler().run(
-                    plugin,
-                    handle -> task.run()
-            );
+            final Entity entity = CommandRegions.entity(commandContext);
+            if (entity != null) {
+                this.runOnEntity(entity, task);
+                return;
+            }
+            final Location location = CommandRegions.location(commandContext);
+            if (location != null) {
+                this.runAtLocation(location, task);
+                return;
+            }
+            senderExecutor.execute(task);
         };
     }
+
+    // Tasks run inline when the current thread already owns the region
+
+    private void runOnEntity(final Entity entity, final Runnable task) {
+        if (entity.getServer().isOwnedByCurrentRegion(entity)) {
+            task.run();
+            return;
+        }
+        entity.getScheduler().execute(this.plugin, task, null, 1L);
+    }
+
+    private void runAtLocation(final Location location, final Runnable task) {
+        if (this.plugin.getServer().isOwnedByCurrentRegion(location)) {
+            task.run();
+            return;
+        }
+        this.plugin.getServer().getRegionScheduler().execute(this.plugin, location, task);
+    }
+
+    private void runGlobal(final Runnable task) {
+        if (this.plugin.getServer().isGlobalTickThread()) {
+            task.run();
+            return;
+        }
+        this.plugin.getServer().getGlobalRegionScheduler().execute(this.plugin, task);
+    }
 }
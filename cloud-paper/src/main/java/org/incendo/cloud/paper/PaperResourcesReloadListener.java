@@ -0,0 +1,61 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.paper;
+
+import io.papermc.paper.event.server.ServerResourcesReloadedEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
+import org.incendo.cloud.bukkit.internal.EnchantmentIndex;
+import org.incendo.cloud.bukkit.internal.KeyTrie;
+
+/**
+ * Drops the registry indexes used by the parsers, and on Minecraft 1.19 and newer the shared command build context,
+ * when Paper reloads the datapacks.
+ */
+final class PaperResourcesReloadListener implements Listener {
+
+    private final boolean commandBuildContext;
+
+    /**
+     * Creates a new listener.
+     *
+     * @param commandBuildContext whether the server has a command build context to invalidate
+     */
+    PaperResourcesReloadListener(final boolean commandBuildContext) {
+        this.commandBuildContext = commandBuildContext;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    void onResourcesReloaded(final @NonNull ServerResourcesReloadedEvent event) {
+        /* Datapacks were reloaded, so the command build context and indexed registries no longer match */
+        if (this.commandBuildContext) {
+            CommandBuildContextSupplier.invalidate();
+        }
+        EnchantmentIndex.invalidate();
+        KeyTrie.invalidateAll();
+    }
+}
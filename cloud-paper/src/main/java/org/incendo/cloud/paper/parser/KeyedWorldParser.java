@@ -32,6 +32,7 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
+import org.incendo.cloud.bukkit.internal.WorldIndex;
 import org.incendo.cloud.bukkit.parser.WorldParser;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -102,6 +103,14 @@ public final class KeyedWorldParser<C> implements ArgumentParser<C, World>, Sugg
 
         final String input = commandInput.readString();
 
+        if (WorldIndex.keysIndexed()) {
+            final World world = WorldIndex.worldByKey(input);
+            if (world == null) {
+                return ArgumentParseResult.failure(new WorldParser.WorldParseException(input, commandContext));
+            }
+            return ArgumentParseResult.success(world);
+        }
+
         final NamespacedKey key = NamespacedKey.fromString(input);
         if (key == null) {
             return ArgumentParseResult.failure(new WorldParser.WorldParseException(input, commandContext));
@@ -124,6 +133,15 @@ public final class KeyedWorldParser<C> implements ArgumentParser<C, World>, Sugg
             return this.parser.suggestionProvider().suggestionsFuture(commandContext, input);
         }
 
+        if (WorldIndex.keysIndexed()) {
+            final List<String> keys = WorldIndex.keys(input.peekString(), input.hasRemainingInput());
+            final List<Suggestion> completions = new ArrayList<>(keys.size());
+            for (final String key : keys) {
+                completions.add(Suggestion.suggestion(key));
+            }
+            return CompletableFuture.completedFuture(completions);
+        }
+
         final List<World> worlds = Bukkit.getWorlds();
         final List<Suggestion> completions = new ArrayList<>(worlds.size() * 2);
         for (final World world : worlds) {
@@ -24,11 +24,15 @@
 package org.incendo.cloud.paper.suggestion;
 
 import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.bukkit.event.EventHandler;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.bukkit.BukkitPluginRegistrationHandler;
+import org.incendo.cloud.minecraft.instrumentation.CommandEvents;
+import org.incendo.cloud.minecraft.instrumentation.CommandMetrics;
 import org.incendo.cloud.paper.PaperCommandManager;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.Suggestions;
@@ -61,11 +65,14 @@ class AsyncCommandSuggestionListener<C> implements SuggestionListener<C> {
             return;
         }
 
-        this.setSuggestions(
-                event,
-                this.paperCommandManager.senderMapper().map(event.getSender()),
-                this.paperCommandManager.stripNamespace(event.getBuffer())
-        );
+        final @Nullable Object jfrEvent = CommandEvents.beginSuggest();
+        final CommandMetrics metrics = CommandMetrics.installed();
+        final long start = metrics.time();
+        final String input = this.paperCommandManager.stripNamespace(event.getBuffer());
+        final C sender = this.paperCommandManager.senderMapper().map(event.getSender());
+        final int suggestionCount = this.setSuggestions(event, sender, input);
+        CommandEvents.commitSuggest(jfrEvent, CommandEvents.SOURCE_PAPER, input, sender, suggestionCount);
+        metrics.recordSuggestions(metrics.time() - start);
 
         event.setHandled(true);
     }
@@ -74,16 +81,18 @@ class AsyncCommandSuggestionListener<C> implements SuggestionListener<C> {
         return this.paperCommandManager.suggestionFactory().suggestImmediately(commandSender, input);
     }
 
-    protected void setSuggestions(
+    protected int setSuggestions(
             final @NonNull AsyncTabCompleteEvent event,
             final @NonNull C commandSender,
             final @NonNull String input
     ) {
         final Suggestions<C, ?> suggestions = this.querySuggestions(commandSender, input);
-        event.setCompletions(suggestions.list().stream()
+        final List<String> completions = suggestions.list().stream()
                 .map(Suggestion::suggestion)
                 .map(suggestion -> StringUtils.trimBeforeLastSpace(suggestion, suggestions.commandInput()))
                 .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
+        event.setCompletions(completions);
+        return completions.size();
     }
 }
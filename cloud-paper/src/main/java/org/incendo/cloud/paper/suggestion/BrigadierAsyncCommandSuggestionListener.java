@@ -24,6 +24,7 @@
 package org.incendo.cloud.paper.suggestion;
 
 import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.bukkit.event.EventHandler;
@@ -62,14 +63,14 @@ class BrigadierAsyncCommandSuggestionListener<C> extends AsyncCommandSuggestionL
     }
 
     @Override
-    protected void setSuggestions(
+    protected int setSuggestions(
             final @NonNull AsyncTabCompleteEvent event,
             final @NonNull C commandSender,
             final @NonNull String input
     ) {
         final CompletionMapper completionMapper = this.completionMapperFactory.createMapper();
         final Suggestions<C, ? extends TooltipSuggestion> suggestions = this.querySuggestions(commandSender, input);
-        event.completions(suggestions.list().stream()
+        final List<AsyncTabCompleteEvent.Completion> completions = suggestions.list().stream()
                 .map(suggestion -> {
                     final @Nullable String trim = StringUtils.trimBeforeLastSpace(
                             suggestion.suggestion(), suggestions.commandInput());
@@ -80,6 +81,8 @@ class BrigadierAsyncCommandSuggestionListener<C> extends AsyncCommandSuggestionL
                 })
                 .filter(Objects::nonNull)
                 .map(completionMapper::map)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
+        event.completions(completions);
+        return completions.size();
     }
 }
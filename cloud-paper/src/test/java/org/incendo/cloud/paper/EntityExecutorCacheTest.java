@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.paper;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.bukkit.entity.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class EntityExecutorCacheTest {
+
+    private List<Entity> ranOn;
+    private EntityExecutorCache cache;
+
+    @BeforeEach
+    void setup() {
+        this.ranOn = new ArrayList<>();
+        this.cache = new EntityExecutorCache((entity, task) -> {
+            this.ranOn.add(entity);
+            task.run();
+        });
+    }
+
+    @Test
+    void testExecutorIsReused() {
+        // Arrange
+        final Entity entity = entity();
+        final List<Integer> ran = new ArrayList<>();
+
+        // Act
+        final Executor first = this.cache.executor(entity);
+        final Executor second = this.cache.executor(entity);
+        first.execute(() -> ran.add(1));
+
+        // Assert
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(ran).containsExactly(1);
+        assertThat(this.ranOn).containsExactly(entity);
+    }
+
+    @Test
+    void testCollectedEntityIsRemoved() throws InterruptedException {
+        // Arrange
+        Entity entity = entity();
+        final WeakReference<Entity> reference = new WeakReference<>(entity);
+        final Executor executor = this.cache.executor(entity);
+        assertThat(this.cache.size()).isEqualTo(1);
+
+        // Act
+        entity = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        /* Writes purge the entries of collected keys */
+        final Entity other = entity();
+        this.cache.executor(other);
+        executor.execute(() -> {
+            throw new AssertionError("ran a task for a collected entity");
+        });
+
+        // Assert
+        assertThat(reference.get()).isNull();
+        assertThat(this.cache.size()).isEqualTo(1);
+        assertThat(this.ranOn).isEmpty();
+    }
+
+    private static Entity entity() {
+        return (Entity) Proxy.newProxyInstance(
+                EntityExecutorCacheTest.class.getClassLoader(),
+                new Class<?>[]{Entity.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    } else if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    return null;
+                }
+        );
+    }
+}
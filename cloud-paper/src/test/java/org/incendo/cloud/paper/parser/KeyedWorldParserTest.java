@@ -0,0 +1,191 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.paper.parser;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.internal.WorldIndex;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeyedWorldParserTest {
+
+    @Mock
+    private Server server;
+
+    @Mock
+    private Plugin plugin;
+
+    @Mock
+    private PluginManager pluginManager;
+
+    @Mock
+    private CommandContext<Object> commandContext;
+
+    private Server previousServer;
+    private World overworld;
+    private World nether;
+    private World arena;
+
+    @BeforeEach
+    void setup() throws Exception {
+        final Field field = serverField();
+        this.previousServer = (Server) field.get(null);
+        field.set(null, this.server);
+
+        this.overworld = world("world", NamespacedKey.minecraft("overworld"));
+        this.nether = world("world_nether", NamespacedKey.minecraft("the_nether"));
+        this.arena = world("arena", new NamespacedKey("myplugin", "arena"));
+        when(this.plugin.getServer()).thenReturn(this.server);
+        when(this.server.getPluginManager()).thenReturn(this.pluginManager);
+        when(this.server.getWorlds()).thenReturn(Arrays.asList(this.overworld, this.nether, this.arena));
+        WorldIndex.track(this.plugin);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        synchronized (WorldIndex.class) {
+            final Field tracking = WorldIndex.class.getDeclaredField("TRACKING");
+            tracking.setAccessible(true);
+            ((List<?>) tracking.get(null)).clear();
+            final Field snapshot = WorldIndex.class.getDeclaredField("snapshot");
+            snapshot.setAccessible(true);
+            snapshot.set(null, null);
+        }
+        serverField().set(null, this.previousServer);
+    }
+
+    @ParameterizedTest
+    @MethodSource("Parse_IndexedKey_Success_Source")
+    void Parse_IndexedKey_Success(final @NonNull String input, final @NonNull String expectedName) {
+        // Arrange
+        final KeyedWorldParser<Object> parser = new KeyedWorldParser<>();
+        final CommandInput commandInput = CommandInput.of(input);
+
+        // Act
+        final ArgumentParseResult<World> result = parser.parse(this.commandContext, commandInput);
+
+        // Assert
+        assertThat(WorldIndex.keysIndexed()).isTrue();
+        assertThat(result.failure()).isEmpty();
+        assertThat(result.parsedValue().map(World::getName)).hasValue(expectedName);
+        assertThat(commandInput.remainingInput()).isEmpty();
+    }
+
+    static @NonNull Stream<@NonNull Arguments> Parse_IndexedKey_Success_Source() {
+        return Stream.of(
+                arguments("overworld", "world"),
+                arguments(":overworld", "world"),
+                arguments("minecraft:the_nether", "world_nether"),
+                arguments("myplugin:arena", "arena")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "OVERWORLD", "Minecraft:overworld", "myplugin:Arena", "arena", "minecraft:", "a:b:c" })
+    void Parse_UnknownOrInvalidKey_Failure(final @NonNull String input) {
+        // Arrange
+        final KeyedWorldParser<Object> parser = new KeyedWorldParser<>();
+
+        // Act
+        final ArgumentParseResult<World> result = parser.parse(this.commandContext, CommandInput.of(input));
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+        assertThat(result.parsedValue()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("Suggestions_IndexedKeys_Source")
+    void Suggestions_IndexedKeys(final @NonNull String input, final @NonNull List<@NonNull String> expectedSuggestions) {
+        // Arrange
+        final KeyedWorldParser<Object> parser = new KeyedWorldParser<>();
+
+        // Act
+        final Iterable<? extends Suggestion> suggestions = parser.suggestionsFuture(
+                this.commandContext,
+                CommandInput.of(input)
+        ).join();
+
+        // Assert
+        final List<String> strings = StreamSupport.stream(suggestions.spliterator(), false)
+                .map(Suggestion::suggestion)
+                .collect(Collectors.toList());
+        assertThat(strings).containsExactlyElementsIn(expectedSuggestions).inOrder();
+    }
+
+    static @NonNull Stream<@NonNull Arguments> Suggestions_IndexedKeys_Source() {
+        return Stream.of(
+                arguments("", Arrays.asList("minecraft:overworld", "minecraft:the_nether", "myplugin:arena")),
+                arguments("o", Collections.singletonList("overworld")),
+                arguments("m", Arrays.asList("minecraft:overworld", "minecraft:the_nether", "myplugin:arena")),
+                arguments("minecraft:t", Collections.singletonList("minecraft:the_nether")),
+                // Keys are matched like they are parsed, upper case characters never match
+                arguments("O", Collections.emptyList()),
+                arguments("Minecraft:", Collections.emptyList())
+        );
+    }
+
+    private static @NonNull Field serverField() throws NoSuchFieldException {
+        final Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static @NonNull World world(final @NonNull String name, final @NonNull NamespacedKey key) {
+        final World world = mock(World.class);
+        when(world.getName()).thenReturn(name);
+        when(world.getKey()).thenReturn(key);
+        return world;
+    }
+}
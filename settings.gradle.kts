@@ -53,12 +53,14 @@ dependencyResolutionManagement {
 rootProject.name = "cloud-minecraft"
 
 include("cloud-minecraft-bom")
+include("cloud-minecraft-benchmarks")
 
 include("cloud-brigadier")
 include("cloud-bukkit")
 include("cloud-bungee")
 include("cloud-cloudburst")
 include("cloud-minecraft-extras")
+include("cloud-minecraft-instrumentation")
 include("cloud-minecraft-signed-arguments")
 include("cloud-paper")
 include("cloud-paper-signed-arguments")